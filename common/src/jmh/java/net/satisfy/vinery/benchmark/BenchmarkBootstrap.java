@@ -0,0 +1,44 @@
+package net.satisfy.vinery.benchmark;
+
+import net.minecraft.SharedConstants;
+import net.minecraft.core.MappedRegistry;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.server.Bootstrap;
+import net.satisfy.vinery.config.ConfigSnapshot;
+import net.satisfy.vinery.config.VineryConfig;
+
+import java.lang.reflect.Field;
+import java.util.IdentityHashMap;
+
+/**
+ * Starts the vanilla registries for the benchmarks. Vinery blocks and items are created without being registered,
+ * so the block and item registries are opened for intrusive holders again after the bootstrap froze them.
+ * Fields are looked up by their Mojang names, so the benchmarks only run from the development environment.
+ */
+public class BenchmarkBootstrap {
+    private static boolean done;
+
+    public static synchronized void init() {
+        if (done) return;
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+        unfreeze(BuiltInRegistries.BLOCK);
+        unfreeze(BuiltInRegistries.ITEM);
+        // The config file is read through the platform, which doesn't exist here
+        ConfigSnapshot.publish(VineryConfig.DEFAULT);
+        done = true;
+    }
+
+    private static void unfreeze(Object registry) {
+        try {
+            Field frozen = MappedRegistry.class.getDeclaredField("frozen");
+            frozen.setAccessible(true);
+            frozen.setBoolean(registry, false);
+            Field intrusiveHolders = MappedRegistry.class.getDeclaredField("unregisteredIntrusiveHolders");
+            intrusiveHolders.setAccessible(true);
+            intrusiveHolders.set(registry, new IdentityHashMap<>());
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Couldn't open " + registry + " for benchmark blocks and items", e);
+        }
+    }
+}
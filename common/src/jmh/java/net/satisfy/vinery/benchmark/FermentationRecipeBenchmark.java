@@ -0,0 +1,93 @@
+package net.satisfy.vinery.benchmark;
+
+import net.minecraft.core.NonNullList;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.SimpleContainer;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.item.crafting.Ingredient;
+import net.satisfy.vinery.recipe.FermentationBarrelRecipe;
+import net.satisfy.vinery.util.VineryIdentifier;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Recipe lookup of a fermentation barrel: every recipe is matched against the inputs until one fits, like
+ * RecipeManager#getRecipeFor does. The recipe set has the size and ingredient counts of the bundled wine recipes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FermentationRecipeBenchmark {
+    private static final Item[] INGREDIENTS = {
+            Items.APPLE, Items.SUGAR, Items.HONEY_BOTTLE, Items.SWEET_BERRIES, Items.GLOW_BERRIES, Items.KELP,
+            Items.CHORUS_FRUIT, Items.MAGMA_CREAM, Items.GOLD_NUGGET, Items.IRON_NUGGET, Items.GUNPOWDER,
+            Items.SPIDER_EYE, Items.GLOWSTONE_DUST, Items.BLAZE_POWDER, Items.WHEAT, Items.COCOA_BEANS
+    };
+
+    @Param({"30", "60"})
+    public int recipeCount;
+
+    private List<FermentationBarrelRecipe> recipes;
+    private SimpleContainer matching;
+    private SimpleContainer notMatching;
+
+    @Setup
+    public void setup() {
+        BenchmarkBootstrap.init();
+        Random random = new Random(42);
+        recipes = new ArrayList<>(recipeCount);
+        for (int i = 0; i < recipeCount; i++) {
+            int size = 1 + random.nextInt(4);
+            NonNullList<Ingredient> inputs = NonNullList.create();
+            for (int j = 0; j < size; j++) {
+                inputs.add(Ingredient.of(INGREDIENTS[random.nextInt(INGREDIENTS.length)]));
+            }
+            recipes.add(new FermentationBarrelRecipe(new VineryIdentifier("benchmark_" + i), inputs, new ItemStack(Items.POTION)));
+        }
+
+        // The inputs of the last recipe, so the whole set is scanned
+        matching = container(recipes.get(recipes.size() - 1).getIngredients());
+        notMatching = container(NonNullList.of(Ingredient.EMPTY, Ingredient.of(Items.DIRT), Ingredient.of(Items.STONE)));
+    }
+
+    private static SimpleContainer container(List<Ingredient> ingredients) {
+        SimpleContainer container = new SimpleContainer(6);
+        container.setItem(0, new ItemStack(Items.GLASS_BOTTLE));
+        for (int i = 0; i < ingredients.size(); i++) {
+            container.setItem(i + 1, ingredients.get(i).getItems()[0].copy());
+        }
+        return container;
+    }
+
+    @Benchmark
+    public ResourceLocation findMatching() {
+        return find(matching);
+    }
+
+    @Benchmark
+    public ResourceLocation findNone() {
+        return find(notMatching);
+    }
+
+    @Benchmark
+    public void matchesSingle(Blackhole blackhole) {
+        blackhole.consume(recipes.get(0).matches(matching, null));
+    }
+
+    private ResourceLocation find(SimpleContainer container) {
+        for (FermentationBarrelRecipe recipe : recipes) {
+            if (recipe.matches(container, null)) return recipe.getId();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,41 @@
+package net.satisfy.vinery.benchmark;
+
+import net.satisfy.vinery.block.grape.GrapeProperty;
+import net.satisfy.vinery.block.grape.GrapeType;
+import net.satisfy.vinery.registry.GrapeTypeRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing grape types from block state strings, as done when loading chunks, commands and block state models.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GrapePropertyBenchmark {
+    private GrapeProperty property;
+    private String[] names;
+
+    @Setup
+    public void setup() {
+        property = GrapeProperty.create("type");
+        names = GrapeTypeRegistry.GRAPE_TYPE_TYPES.stream().map(GrapeType::getSerializedName).toArray(String[]::new);
+    }
+
+    @Benchmark
+    public void getValueAll(Blackhole blackhole) {
+        for (String name : names) {
+            blackhole.consume(property.getValue(name));
+        }
+    }
+
+    @Benchmark
+    public Object getValueUnknown() {
+        return property.getValue("unknown");
+    }
+}
@@ -0,0 +1,60 @@
+package net.satisfy.vinery.benchmark;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.world.level.EmptyBlockGetter;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.SlabBlock;
+import net.minecraft.world.level.block.state.BlockBehaviour;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.block.state.properties.SlabType;
+import net.minecraft.world.phys.shapes.CollisionContext;
+import net.minecraft.world.phys.shapes.VoxelShape;
+import net.satisfy.vinery.block.GrapevinePotBlock;
+import net.satisfy.vinery.block.StackableLogBlock;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outline shape lookups, called for every block outline render and ray trace.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ShapeBenchmark {
+    private BlockState grapevinePot;
+    private BlockState[] stackableLogs;
+    private int index;
+
+    @Setup
+    public void setup() {
+        BenchmarkBootstrap.init();
+        grapevinePot = new GrapevinePotBlock(BlockBehaviour.Properties.copy(Blocks.BARREL)).defaultBlockState();
+
+        StackableLogBlock log = new StackableLogBlock(BlockBehaviour.Properties.copy(Blocks.OAK_LOG));
+        List<BlockState> states = new ArrayList<>();
+        for (Direction direction : Direction.Plane.HORIZONTAL) {
+            for (SlabType type : SlabType.values()) {
+                states.add(log.defaultBlockState().setValue(StackableLogBlock.FACING, direction).setValue(SlabBlock.TYPE, type));
+            }
+        }
+        stackableLogs = states.toArray(BlockState[]::new);
+    }
+
+    @Benchmark
+    public VoxelShape grapevinePot() {
+        return grapevinePot.getShape(EmptyBlockGetter.INSTANCE, BlockPos.ZERO, CollisionContext.empty());
+    }
+
+    @Benchmark
+    public VoxelShape stackableLog() {
+        BlockState state = stackableLogs[index++ % stackableLogs.length];
+        return state.getShape(EmptyBlockGetter.INSTANCE, BlockPos.ZERO, CollisionContext.empty());
+    }
+}
@@ -0,0 +1,60 @@
+package net.satisfy.vinery.benchmark;
+
+import net.minecraft.core.NonNullList;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockBehaviour;
+import net.satisfy.vinery.block.storage.WineBottleBlock;
+import net.satisfy.vinery.item.DrinkBlockItem;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The inventory scans of a placed wine bottle stack, run on every right click.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WineBottleSlotBenchmark {
+    private WineBottleBlock block;
+    private ItemStack wine;
+    private NonNullList<ItemStack> partlyFilled;
+    private NonNullList<ItemStack> full;
+
+    @Setup
+    public void setup() {
+        BenchmarkBootstrap.init();
+        block = new WineBottleBlock(BlockBehaviour.Properties.copy(Blocks.GLASS), 3);
+        wine = new ItemStack(new DrinkBlockItem(block, new Item.Properties()));
+
+        partlyFilled = NonNullList.withSize(block.size(), ItemStack.EMPTY);
+        partlyFilled.set(0, wine.copy());
+        full = NonNullList.withSize(block.size(), ItemStack.EMPTY);
+        for (int i = 0; i < full.size(); i++) {
+            full.set(i, wine.copy());
+        }
+    }
+
+    @Benchmark
+    public void insertScan(Blackhole blackhole) {
+        blackhole.consume(block.willFitStack(wine, partlyFilled));
+        blackhole.consume(block.getFirstEmptySlot(partlyFilled));
+    }
+
+    @Benchmark
+    public void insertIntoFull(Blackhole blackhole) {
+        blackhole.consume(block.willFitStack(wine, full));
+    }
+
+    @Benchmark
+    public void removeScan(Blackhole blackhole) {
+        blackhole.consume(block.isEmpty(full));
+        blackhole.consume(block.getLastFullSlot(full));
+    }
+}
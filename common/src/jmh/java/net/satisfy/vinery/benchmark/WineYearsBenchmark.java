@@ -0,0 +1,40 @@
+package net.satisfy.vinery.benchmark;
+
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.satisfy.vinery.util.WineYears;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Effect level of a wine, computed for every tooltip line and every sip.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WineYearsBenchmark {
+    private ItemStack stamped;
+    private ItemStack unstamped;
+
+    @Setup
+    public void setup() {
+        BenchmarkBootstrap.init();
+        stamped = new ItemStack(Items.POTION);
+        stamped.getOrCreateTag().putInt("Year", -12);
+        unstamped = new ItemStack(Items.POTION);
+    }
+
+    @Benchmark
+    public int effectLevelStamped() {
+        return WineYears.getEffectLevel(stamped, null);
+    }
+
+    @Benchmark
+    public int effectLevelUnstamped() {
+        return WineYears.getEffectLevel(unstamped, null);
+    }
+}
@@ -1,17 +1,30 @@
 package net.satisfy.vinery;
 
 import de.cristelknight.doapi.DoApiEP;
+import dev.architectury.event.events.common.CommandRegistrationEvent;
 import dev.architectury.event.events.common.EntityEvent;
 import dev.architectury.event.events.common.PlayerEvent;
+import dev.architectury.event.events.common.TickEvent;
 import dev.architectury.hooks.item.tool.AxeItemHooks;
 import dev.architectury.hooks.item.tool.ShovelItemHooks;
+import dev.architectury.registry.ReloadListenerRegistry;
 import dev.architectury.registry.fuel.FuelRegistry;
+import net.minecraft.server.packs.PackType;
 import net.minecraft.world.level.block.Blocks;
+import net.satisfy.vinery.command.VineryCommand;
+import net.satisfy.vinery.config.ConfigSnapshot;
 import net.satisfy.vinery.config.VineryConfig;
+import net.satisfy.vinery.entity.WinemakerTrades;
 import net.satisfy.vinery.event.EntityDamageEvent;
 import net.satisfy.vinery.event.ParticleSpawnEvent;
+import net.satisfy.vinery.network.VineryNetwork;
 import net.satisfy.vinery.registry.*;
+import net.satisfy.vinery.util.ParticleAggregator;
+import net.satisfy.vinery.util.StompAggregator;
+import net.satisfy.vinery.util.TradingDiscount;
 import net.satisfy.vinery.util.VineryIdentifier;
+import net.satisfy.vinery.util.metrics.VineryMetrics;
+import net.satisfy.vinery.world.FruitRegrowth;
 import net.satisfy.vinery.world.VineryFeatures;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -25,6 +38,7 @@ public class Vinery {
         VineryConfig config = loadConfig();
         VineryConfig validatedConfig = config.validate();
         validatedConfig.setInstance(validatedConfig);
+        ConfigSnapshot.publish(validatedConfig);
 
         ObjectRegistry.init();
         ObjectRegistry.initItemsWithConfig();
@@ -43,6 +57,15 @@ public class Vinery {
         PlayerEvent.ATTACK_ENTITY.register(particleSpawnEvent);
         EntityDamageEvent entityDamageEvent = new EntityDamageEvent();
         EntityEvent.LIVING_HURT.register(entityDamageEvent);
+        TickEvent.SERVER_LEVEL_POST.register(ParticleAggregator::flush);
+        TickEvent.SERVER_LEVEL_POST.register(StompAggregator::flush);
+        FruitRegrowth.init();
+        TickEvent.SERVER_POST.register(VineryNetwork::flush);
+        VineryNetwork.registerC2SPackets();
+        CommandRegistrationEvent.EVENT.register(VineryCommand::register);
+        ReloadListenerRegistry.register(PackType.SERVER_DATA, new WinemakerTrades.Loader());
+        ReloadListenerRegistry.register(PackType.SERVER_DATA, new TradingDiscount.Loader());
+        VineryMetrics.init();
         DoApiEP.registerBuiltInPack(Vinery.MOD_ID, new VineryIdentifier("bushy_leaves"), false);
     }
 
@@ -1,11 +1,9 @@
 package net.satisfy.vinery.block;
 
 import net.minecraft.core.BlockPos;
-import net.minecraft.server.level.ServerLevel;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.sounds.SoundSource;
 import net.minecraft.util.Mth;
-import net.minecraft.util.RandomSource;
 import net.minecraft.world.InteractionHand;
 import net.minecraft.world.InteractionResult;
 import net.minecraft.world.entity.player.Player;
@@ -14,7 +12,6 @@ import net.minecraft.world.item.Items;
 import net.minecraft.world.item.context.BlockPlaceContext;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Block;
-import net.minecraft.world.level.block.LeavesBlock;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.block.state.StateDefinition;
 import net.minecraft.world.level.block.state.properties.BooleanProperty;
@@ -25,7 +22,7 @@ import org.jetbrains.annotations.Nullable;
 import java.util.Objects;
 
 @SuppressWarnings("deprecation")
-public class AppleLeaves extends LeavesBlock {
+public class AppleLeaves extends FruitLeavesBlock {
 
     public static final BooleanProperty VARIANT = BooleanProperty.create("can_have_apples");
 
@@ -52,13 +49,6 @@ public class AppleLeaves extends LeavesBlock {
         return super.use(state, world, pos, player, hand, hit);
     }
 
-
-    @Override
-    public boolean isRandomlyTicking(BlockState state) {
-        if(state.getValue(VARIANT) && !state.getValue(HAS_APPLES)) return true;
-        return super.isRandomlyTicking(state);
-    }
-
     @Nullable
     @Override
     public BlockState getStateForPlacement(BlockPlaceContext ctx) {
@@ -75,8 +65,12 @@ public class AppleLeaves extends LeavesBlock {
     }
 
     @Override
-    public void randomTick(BlockState state, ServerLevel world, BlockPos pos, RandomSource random) {
-        if(state.getValue(VARIANT) && !state.getValue(HAS_APPLES) && world.getRandom().nextFloat() < 0.1f) world.setBlockAndUpdate(pos, state.setValue(HAS_APPLES, true));
-        super.randomTick(state, world, pos, random);
+    protected boolean isPicked(BlockState state) {
+        return state.getValue(VARIANT) && !state.getValue(HAS_APPLES);
+    }
+
+    @Override
+    protected BlockState withFruit(BlockState state) {
+        return state.setValue(HAS_APPLES, true);
     }
 }
@@ -1,11 +1,9 @@
 package net.satisfy.vinery.block;
 
 import net.minecraft.core.BlockPos;
-import net.minecraft.server.level.ServerLevel;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.sounds.SoundSource;
 import net.minecraft.util.Mth;
-import net.minecraft.util.RandomSource;
 import net.minecraft.world.InteractionHand;
 import net.minecraft.world.InteractionResult;
 import net.minecraft.world.entity.player.Player;
@@ -13,7 +11,6 @@ import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.context.BlockPlaceContext;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Block;
-import net.minecraft.world.level.block.LeavesBlock;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.block.state.StateDefinition;
 import net.minecraft.world.level.block.state.properties.BooleanProperty;
@@ -24,7 +21,7 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.Objects;
 
-public class CherryLeavesBlock extends LeavesBlock {
+public class CherryLeavesBlock extends FruitLeavesBlock {
     public static final BooleanProperty VARIANT = BooleanProperty.create("can_have_cherries");
     public static final BooleanProperty HAS_CHERRIES = BooleanProperty.create("has_cherries");
 
@@ -52,11 +49,6 @@ public class CherryLeavesBlock extends LeavesBlock {
         return super.use(state, world, pos, player, hand, hit);
     }
 
-    @Override
-    public boolean isRandomlyTicking(BlockState state) {
-        return state.getValue(VARIANT) && !state.getValue(HAS_CHERRIES) || super.isRandomlyTicking(state);
-    }
-
     @Nullable
     @Override
     public BlockState getStateForPlacement(BlockPlaceContext ctx) {
@@ -72,10 +64,12 @@ public class CherryLeavesBlock extends LeavesBlock {
     }
 
     @Override
-    public void randomTick(BlockState state, ServerLevel world, BlockPos pos, RandomSource random) {
-        if (state.getValue(VARIANT) && !state.getValue(HAS_CHERRIES) && random.nextFloat() < 0.1f) {
-            world.setBlockAndUpdate(pos, state.setValue(HAS_CHERRIES, true));
-        }
-        super.randomTick(state, world, pos, random);
+    protected boolean isPicked(BlockState state) {
+        return state.getValue(VARIANT) && !state.getValue(HAS_CHERRIES);
+    }
+
+    @Override
+    protected BlockState withFruit(BlockState state) {
+        return state.setValue(HAS_CHERRIES, true);
     }
 }
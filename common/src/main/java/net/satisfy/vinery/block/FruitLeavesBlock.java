@@ -0,0 +1,70 @@
+package net.satisfy.vinery.block;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.LevelAccessor;
+import net.minecraft.world.level.block.LeavesBlock;
+import net.minecraft.world.level.block.state.BlockState;
+import net.satisfy.vinery.world.FruitRegrowth;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Leaves whose fruit regrows after it was picked, see {@link FruitRegrowth}.
+ */
+@SuppressWarnings("deprecation")
+public abstract class FruitLeavesBlock extends LeavesBlock {
+
+    protected FruitLeavesBlock(Properties settings) {
+        super(settings);
+    }
+
+    /**
+     * @return whether the leaves can carry fruit but have none right now
+     */
+    protected abstract boolean isPicked(BlockState state);
+
+    protected abstract BlockState withFruit(BlockState state);
+
+    public static boolean isBarren(BlockState state) {
+        return state.getBlock() instanceof FruitLeavesBlock leaves && leaves.isPicked(state);
+    }
+
+    @Override
+    public void tick(BlockState state, ServerLevel world, BlockPos pos, RandomSource random) {
+        super.tick(state, world, pos, random);
+        state = world.getBlockState(pos);
+        if (state.is(this) && isPicked(state) && FruitRegrowth.tick(world, pos, this)) {
+            world.setBlockAndUpdate(pos, withFruit(state));
+        }
+    }
+
+    @Override
+    public @NotNull BlockState updateShape(BlockState state, Direction direction, BlockState neighborState, LevelAccessor world, BlockPos pos, BlockPos neighborPos) {
+        BlockState updated = super.updateShape(state, direction, neighborState, world, pos, neighborPos);
+        // The level keeps one tick per position and block, so the distance tick vanilla schedules is dropped while
+        // the regrowth tick is pending. The distance is updated right away instead.
+        if (isPicked(state) && world.getBlockTicks().hasScheduledTick(pos, this)) {
+            return LeavesBlock.updateDistance(updated, world, pos);
+        }
+        return updated;
+    }
+
+    @Override
+    public void onPlace(BlockState state, Level world, BlockPos pos, BlockState oldState, boolean moved) {
+        super.onPlace(state, world, pos, oldState, moved);
+        if (world instanceof ServerLevel serverLevel && isPicked(state) && !isBarren(oldState)) {
+            FruitRegrowth.schedule(serverLevel, pos, this);
+        }
+    }
+
+    @Override
+    public void onRemove(BlockState state, Level world, BlockPos pos, BlockState newState, boolean moved) {
+        if (world instanceof ServerLevel serverLevel && isPicked(state) && !isBarren(newState)) {
+            FruitRegrowth.remove(serverLevel, pos);
+        }
+        super.onRemove(state, world, pos, newState, moved);
+    }
+}
@@ -1,6 +1,7 @@
 package net.satisfy.vinery.block;
 
 import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.sounds.SoundSource;
 import net.minecraft.world.InteractionHand;
@@ -24,6 +25,7 @@ import net.satisfy.vinery.item.GrapeItem;
 import net.satisfy.vinery.registry.GrapeTypeRegistry;
 import net.satisfy.vinery.registry.ObjectRegistry;
 import net.satisfy.vinery.registry.SoundEventRegistry;
+import net.satisfy.vinery.util.StompAggregator;
 import org.jetbrains.annotations.NotNull;
 
 @SuppressWarnings("deprecation")
@@ -67,17 +69,27 @@ public class GrapevinePotBlock extends Block {
     @Override
     public void fallOn(Level world, BlockState state, BlockPos pos, Entity entity, float fallDistance) {
         super.fallOn(world, state, pos, entity, fallDistance);
-        if (entity instanceof LivingEntity) {
-            final int activeStage = state.getValue(STAGE);
-            if (activeStage >= 3) {
-                if (activeStage < MAX_STAGE) {
-                    world.setBlock(pos, state.setValue(STAGE, activeStage + 1), Block.UPDATE_ALL);
-                }
-                world.playSound(null, pos, SoundEventRegistry.BLOCK_GRAPEVINE_POT_SQUEEZE.get(), SoundSource.BLOCKS, 1.0F, 1.0F);
+        if (entity instanceof LivingEntity && state.getValue(STAGE) >= 3) {
+            if (world instanceof ServerLevel level && StompAggregator.BATCHED) {
+                StompAggregator.stomp(level, pos);
+            } else {
+                stomp(world, pos, state, 1);
             }
         }
     }
 
+    /**
+     * Applies the stomps of one or more entities with a single block update.
+     */
+    public void stomp(Level world, BlockPos pos, BlockState state, int stomps) {
+        final int activeStage = state.getValue(STAGE);
+        if (activeStage < 3) return;
+        if (activeStage < MAX_STAGE) {
+            world.setBlock(pos, state.setValue(STAGE, Math.min(activeStage + stomps, MAX_STAGE)), Block.UPDATE_ALL);
+        }
+        world.playSound(null, pos, SoundEventRegistry.BLOCK_GRAPEVINE_POT_SQUEEZE.get(), SoundSource.BLOCKS, 1.0F, 1.0F);
+    }
+
     private boolean canTakeWine(BlockState state, ItemStack stackInHand) {
         final int storage = state.getValue(STORAGE);
         final int stage = state.getValue(STAGE);
@@ -103,29 +115,9 @@ public class GrapevinePotBlock extends Block {
         }
         if (stack.getItem() instanceof GrapeItem grape) {
             if (!player.isCreative()) stack.shrink(1);
-            final int stage = state.getValue(STAGE);
-            final int storage = state.getValue(STORAGE);
-            boolean playSound = false;
-            if (stage == 0) {
-                world.setBlock(pos, this.defaultBlockState().setValue(STAGE, 1).setValue(STORAGE, 1).setValue(GRAPEVINE_TYPE, grape.getType()), Block.UPDATE_ALL);
-                playSound = true;
-            }
-            if (!isFilled(state)) {
-                final BlockState newState = world.getBlockState(pos);
-                world.setBlock(pos, newState.setValue(STORAGE, storage + 1), Block.UPDATE_ALL);
-                playSound = true;
-            }
-            final BlockState newState = world.getBlockState(pos);
-            final int newStage = newState.getValue(STAGE);
-            final int newStorage = newState.getValue(STORAGE);
-            switch (newStorage) {
-                case 3, 6, 9 -> {
-                    if (newStage < 3) {
-                        world.setBlock(pos, newState.setValue(STAGE, newStage + 1), Block.UPDATE_ALL);
-                    }
-                }
-            }
-            if (playSound) {
+            final BlockState newState = addGrape(state, grape);
+            if (newState != state) {
+                world.setBlock(pos, newState, Block.UPDATE_ALL);
                 world.playSound(player, pos, SoundEvents.CORAL_BLOCK_PLACE, SoundSource.BLOCKS, 1.0F, 1.0F);
             }
             return InteractionResult.SUCCESS;
@@ -135,9 +127,9 @@ public class GrapevinePotBlock extends Block {
                 int storage = state.getValue(STORAGE);
                 int newStorage = (storage - DECREMENT_PER_WINE_BOTTLE);
                 if (newStorage == 0) {
-                    world.setBlock(pos, world.getBlockState(pos).setValue(STORAGE,0).setValue(STAGE, 0), Block.UPDATE_ALL);
+                    world.setBlock(pos, state.setValue(STORAGE, 0).setValue(STAGE, 0), Block.UPDATE_ALL);
                 } else {
-                    world.setBlock(pos, world.getBlockState(pos).setValue(STORAGE, newStorage), Block.UPDATE_ALL);
+                    world.setBlock(pos, state.setValue(STORAGE, newStorage), Block.UPDATE_ALL);
                 }
                 if (!player.isCreative()) stack.shrink(1);
                 if (!player.getInventory().add(output)) {
@@ -155,6 +147,25 @@ public class GrapevinePotBlock extends Block {
         return state.getValue(STORAGE) >= MAX_STORAGE;
     }
 
+    /**
+     * The pot after a grape was added: the first grape sets the type, every grape fills the storage by one and each
+     * third one advances the stage until the grapes can be stomped.
+     */
+    private BlockState addGrape(BlockState state, GrapeItem grape) {
+        BlockState newState = state;
+        if (state.getValue(STAGE) == 0) {
+            newState = this.defaultBlockState().setValue(STAGE, 1).setValue(STORAGE, 1).setValue(GRAPEVINE_TYPE, grape.getType());
+        }
+        if (!isFilled(state)) {
+            newState = newState.setValue(STORAGE, state.getValue(STORAGE) + 1);
+        }
+        final int newStage = newState.getValue(STAGE);
+        if (canTakeWine(newState.getValue(STORAGE)) && newStage < 3) {
+            newState = newState.setValue(STAGE, newStage + 1);
+        }
+        return newState;
+    }
+
 
     @Override
     public @NotNull VoxelShape getShape(BlockState state, BlockGetter world, BlockPos pos, CollisionContext context) {
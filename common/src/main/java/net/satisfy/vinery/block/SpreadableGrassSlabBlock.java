@@ -1,11 +1,15 @@
 package net.satisfy.vinery.block;
 
+import it.unimi.dsi.fastutil.objects.Reference2ByteMap;
+import it.unimi.dsi.fastutil.objects.Reference2ByteOpenHashMap;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.tags.BlockTags;
 import net.minecraft.tags.FluidTags;
 import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.EmptyBlockGetter;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.LevelAccessor;
 import net.minecraft.world.level.LevelReader;
@@ -19,6 +23,8 @@ import net.minecraft.world.level.block.state.properties.SlabType;
 import net.minecraft.world.level.lighting.LightEngine;
 import net.minecraft.world.level.material.Fluids;
 import net.satisfy.vinery.registry.ObjectRegistry;
+import net.satisfy.vinery.util.jfr.GrassSlabSpreadEvent;
+import net.satisfy.vinery.util.profiling.VineryProfiler;
 import org.jetbrains.annotations.NotNull;
 
 public class SpreadableGrassSlabBlock extends SlabBlock implements BonemealableBlock {
@@ -39,13 +45,21 @@ public class SpreadableGrassSlabBlock extends SlabBlock implements BonemealableB
     }
 
     public static boolean canSurviveNew(BlockState state, LevelReader world, BlockPos pos) {
-        BlockPos blockPos = pos.above();
-        BlockState blockState = world.getBlockState(blockPos);
-
         if (state.getBlock().equals(getDirtSlabBlock()) && state.getValue(SlabBlock.TYPE) == SlabType.BOTTOM) {
             return !state.getValue(SlabBlock.WATERLOGGED);
         }
 
+        BlockPos blockPos = pos.above();
+        BlockState blockState = world.getBlockState(blockPos);
+        return switch (AboveStates.VERDICTS.getByte(blockState)) {
+            case AboveStates.SURVIVES -> true;
+            case AboveStates.DIES -> false;
+            case AboveStates.SURVIVES_UNLESS_WALL -> !isCoveredWall(state, blockState);
+            default -> canSurviveBelow(state, world, pos, blockState, blockPos);
+        };
+    }
+
+    private static boolean canSurviveBelow(BlockState state, LevelReader world, BlockPos pos, BlockState blockState, BlockPos blockPos) {
         if (blockState.is(Blocks.SNOW) && blockState.getValue(SnowLayerBlock.LAYERS) == 1) {
             return true;
         }
@@ -54,20 +68,66 @@ public class SpreadableGrassSlabBlock extends SlabBlock implements BonemealableB
             return false;
         }
 
-        if (state.is(BlockTags.WALLS) && blockState.is(BlockTags.WALLS) && blockState.canOcclude()) {
+        if (isCoveredWall(state, blockState)) {
             return false;
         }
 
-        if (blockState.getBlock() instanceof SlabBlock && blockState.getValue(SlabBlock.TYPE) == SlabType.TOP){
+        if (isTopHalf(blockState)) {
             return true;
         }
 
-        if (blockState.getBlock() instanceof StairBlock && blockState.getValue(StairBlock.HALF) == Half.TOP){
+        int i = LightEngine.getLightBlockInto(world, GRASS_BLOCK.defaultBlockState(), pos, blockState, blockPos, Direction.UP, blockState.getLightBlock(world, blockPos));
+        return i < world.getMaxLightLevel();
+    }
+
+    private static boolean isCoveredWall(BlockState state, BlockState blockState) {
+        return state.is(BlockTags.WALLS) && blockState.is(BlockTags.WALLS) && blockState.canOcclude();
+    }
+
+    private static boolean isTopHalf(BlockState blockState) {
+        if (blockState.getBlock() instanceof SlabBlock && blockState.getValue(SlabBlock.TYPE) == SlabType.TOP) {
             return true;
         }
+        return blockState.getBlock() instanceof StairBlock && blockState.getValue(StairBlock.HALF) == Half.TOP;
+    }
 
-        int i = LightEngine.getLightBlockInto(world, GRASS_BLOCK.defaultBlockState(), pos, blockState, blockPos, Direction.UP, blockState.getLightBlock(world, blockPos));
-        return i < world.getMaxLightLevel();
+    /**
+     * What {@link #canSurviveNew} decides from the block state above alone, for every block state. The wall check
+     * depends on tags, which can be reloaded, so it still runs where it can change the answer.
+     * <p>
+     * The light check is precomputed for blocks without a dynamic shape, their light blocking and occlusion shape
+     * don't depend on the position (vanilla caches them the same way). Blocks with a dynamic shape and states
+     * registered after the table was built fall back to the full check.
+     */
+    private static class AboveStates {
+        static final byte CHECK = 0;
+        static final byte SURVIVES = 1;
+        static final byte DIES = 2;
+        static final byte SURVIVES_UNLESS_WALL = 3;
+
+        static final Reference2ByteMap<BlockState> VERDICTS = build();
+
+        private static Reference2ByteMap<BlockState> build() {
+            Reference2ByteOpenHashMap<BlockState> verdicts = new Reference2ByteOpenHashMap<>(Block.BLOCK_STATE_REGISTRY.size());
+            verdicts.defaultReturnValue(CHECK);
+            for (BlockState blockState : Block.BLOCK_STATE_REGISTRY) {
+                verdicts.put(blockState, verdict(blockState));
+            }
+            return verdicts;
+        }
+
+        private static byte verdict(BlockState blockState) {
+            if (blockState.is(Blocks.SNOW) && blockState.getValue(SnowLayerBlock.LAYERS) == 1) return SURVIVES;
+            if (blockState.getFluidState().getAmount() == 8) return DIES;
+            if (isTopHalf(blockState)) return SURVIVES_UNLESS_WALL;
+            if (blockState.getBlock().hasDynamicShape()) return CHECK;
+
+            BlockGetter world = EmptyBlockGetter.INSTANCE;
+            BlockPos blockPos = BlockPos.ZERO.above();
+            int i = LightEngine.getLightBlockInto(world, GRASS_BLOCK.defaultBlockState(), BlockPos.ZERO, blockState, blockPos, Direction.UP, blockState.getLightBlock(world, blockPos));
+            // A covered wall dies as well, so no wall check is needed for these
+            return i < world.getMaxLightLevel() ? SURVIVES_UNLESS_WALL : DIES;
+        }
     }
 
     @Override
@@ -104,6 +164,19 @@ public class SpreadableGrassSlabBlock extends SlabBlock implements BonemealableB
     }
 
     public static void trySpread(ServerLevel world, BlockPos spreadPos) {
+        if (!VineryProfiler.isRecording()) {
+            spread(world, spreadPos);
+            return;
+        }
+        long start = System.nanoTime();
+        GrassSlabSpreadEvent event = new GrassSlabSpreadEvent();
+        event.begin();
+        boolean spread = spread(world, spreadPos);
+        event.finish(spreadPos, spread ? "spread" : "skipped");
+        VineryProfiler.record(VineryProfiler.Subsystem.GRASS_SPREAD, start, world, spreadPos);
+    }
+
+    private static boolean spread(ServerLevel world, BlockPos spreadPos) {
         BlockState oldState = world.getBlockState(spreadPos);
 
         if (oldState.is(Blocks.DIRT) || oldState.is(getDirtSlabBlock())) {
@@ -119,8 +192,10 @@ public class SpreadableGrassSlabBlock extends SlabBlock implements BonemealableB
 
             if (newState != null && canSurviveNew(newState, world, spreadPos) && !world.getFluidState(spreadPos.above()).is(FluidTags.WATER)) {
                 world.setBlockAndUpdate(spreadPos, newState);
+                return true;
             }
         }
+        return false;
     }
 
     @Override
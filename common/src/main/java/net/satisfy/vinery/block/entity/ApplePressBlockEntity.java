@@ -1,11 +1,13 @@
 package net.satisfy.vinery.block.entity;
 
+import com.mojang.datafixers.util.Pair;
 import de.cristelknight.doapi.common.world.ImplementedInventory;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.core.NonNullList;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.chat.Component;
+import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.ContainerHelper;
 import net.minecraft.world.MenuProvider;
 import net.minecraft.world.SimpleContainer;
@@ -15,7 +17,6 @@ import net.minecraft.world.inventory.AbstractContainerMenu;
 import net.minecraft.world.inventory.ContainerData;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
-import net.minecraft.world.item.crafting.Recipe;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.entity.BlockEntityTicker;
@@ -24,9 +25,14 @@ import net.satisfy.vinery.client.gui.handler.ApplePressGuiHandler;
 import net.satisfy.vinery.recipe.ApplePressRecipe;
 import net.satisfy.vinery.registry.BlockEntityTypeRegistry;
 import net.satisfy.vinery.registry.RecipeTypesRegistry;
+import net.satisfy.vinery.util.jfr.ApplePressCycleEvent;
+import net.satisfy.vinery.util.metrics.VineryMetrics;
+import net.satisfy.vinery.util.profiling.VineryProfiler;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Optional;
+
 public class ApplePressBlockEntity extends BlockEntity implements MenuProvider, ImplementedInventory, BlockEntityTicker<ApplePressBlockEntity> {
     private final NonNullList<ItemStack> inventory = NonNullList.withSize(2, ItemStack.EMPTY);
     private static final int[] SLOTS_FOR_REST = new int[]{0};
@@ -34,6 +40,10 @@ public class ApplePressBlockEntity extends BlockEntity implements MenuProvider,
     protected final ContainerData propertyDelegate;
     private int progress = 0;
     private int maxProgress = 72;
+    // Checked first on the next recipe lookup, like the cached check of furnaces
+    @Nullable
+    private ResourceLocation lastRecipe;
+    private static final String NO_RECIPE = "no_recipe", BLOCKED = "blocked", PRESSING = "pressing", PRESSED = "pressed";
 
     public ApplePressBlockEntity(BlockPos pos, BlockState state) {
         super(BlockEntityTypeRegistry.APPLE_PRESS_BLOCK_ENTITY.get(), pos, state);
@@ -107,12 +117,43 @@ public class ApplePressBlockEntity extends BlockEntity implements MenuProvider,
     @Override
     public void tick(Level world, BlockPos blockPos, BlockState state, ApplePressBlockEntity entity) {
         if(world.isClientSide()) return;
+        String outcome;
+        if(!VineryProfiler.isRecording()) {
+            outcome = serverTick(world, blockPos, state, entity);
+        } else {
+            long start = System.nanoTime();
+            ApplePressCycleEvent event = new ApplePressCycleEvent();
+            event.begin();
+            outcome = serverTick(world, blockPos, state, entity);
+            event.finish(blockPos, outcome);
+            VineryProfiler.record(VineryProfiler.Subsystem.PRESSES, start, world, blockPos);
+        }
+        if(VineryMetrics.ENABLED) {
+            VineryMetrics.PRESSES.tick(outcome.equals(PRESSING) || outcome.equals(PRESSED));
+        }
+    }
+
+    @Nullable
+    private ApplePressRecipe findRecipe(Level world) {
+        Optional<Pair<ResourceLocation, ApplePressRecipe>> found = world.getRecipeManager()
+                .getRecipeFor(RecipeTypesRegistry.APPLE_PRESS_RECIPE_TYPE.get(), this, world, lastRecipe);
+        if(VineryMetrics.ENABLED) {
+            VineryMetrics.PRESS_RECIPES.record(found.isPresent() && found.get().getFirst().equals(lastRecipe));
+        }
+        if(found.isEmpty()) return null;
+        lastRecipe = found.get().getFirst();
+        return found.get().getSecond();
+    }
 
-        Recipe<?> r = world.getRecipeManager().getRecipeFor(RecipeTypesRegistry.APPLE_PRESS_RECIPE_TYPE.get(), this, world).orElse(null);
-        if(!(r instanceof ApplePressRecipe recipe)){
+    /**
+     * @return the outcome of the tick for {@link ApplePressCycleEvent}
+     */
+    private String serverTick(Level world, BlockPos blockPos, BlockState state, ApplePressBlockEntity entity) {
+        ApplePressRecipe recipe = findRecipe(world);
+        if(recipe == null){
             entity.resetProgress();
             setChanged(world, blockPos, state);
-            return;
+            return NO_RECIPE;
         }
 
         if(hasRecipe(entity, recipe)) {
@@ -120,10 +161,13 @@ public class ApplePressBlockEntity extends BlockEntity implements MenuProvider,
             setChanged(world, blockPos, state);
             if(entity.progress >= entity.maxProgress) {
                 craftItem(entity, recipe);
+                return PRESSED;
             }
+            return PRESSING;
         } else {
             entity.resetProgress();
             setChanged(world, blockPos, state);
+            return BLOCKED;
         }
     }
 
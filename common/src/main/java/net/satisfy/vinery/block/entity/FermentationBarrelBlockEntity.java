@@ -1,5 +1,6 @@
 package net.satisfy.vinery.block.entity;
 
+import com.mojang.datafixers.util.Pair;
 import de.cristelknight.doapi.common.world.ImplementedInventory;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
@@ -7,6 +8,7 @@ import net.minecraft.core.NonNullList;
 import net.minecraft.core.RegistryAccess;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.chat.Component;
+import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.ContainerHelper;
 import net.minecraft.world.MenuProvider;
 import net.minecraft.world.entity.player.Inventory;
@@ -22,19 +24,31 @@ import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.entity.BlockEntityTicker;
 import net.minecraft.world.level.block.state.BlockState;
 import net.satisfy.vinery.client.gui.handler.FermentationBarrelGuiHandler;
-import net.satisfy.vinery.config.VineryConfig;
+import net.satisfy.vinery.config.ConfigSnapshot;
+import net.satisfy.vinery.recipe.FermentationBarrelRecipe;
 import net.satisfy.vinery.registry.BlockEntityTypeRegistry;
 import net.satisfy.vinery.registry.ObjectRegistry;
 import net.satisfy.vinery.registry.RecipeTypesRegistry;
 import net.satisfy.vinery.util.WineYears;
+import net.satisfy.vinery.util.jfr.FermentationBarrelCraftEvent;
+import net.satisfy.vinery.util.jfr.FermentationBarrelTickEvent;
+import net.satisfy.vinery.util.jfr.VineryEvents;
+import net.satisfy.vinery.util.metrics.VineryMetrics;
+import net.satisfy.vinery.util.profiling.VineryProfiler;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Optional;
+
 public class FermentationBarrelBlockEntity extends BlockEntity implements ImplementedInventory, BlockEntityTicker<FermentationBarrelBlockEntity>, MenuProvider {
     private NonNullList<ItemStack> inventory;
+    // Checked first on the next recipe lookup, like the cached check of furnaces
+    @Nullable
+    private ResourceLocation lastRecipe;
     public static final int CAPACITY = 6;
     private static final int BOTTLE_INPUT_SLOT = 0;
     private static final int OUTPUT_SLOT = 5;
+    private static final String NO_RECIPE = "no_recipe", BLOCKED = "blocked", FERMENTING = "fermenting", CRAFTED = "crafted";
     private int fermentationTime = 0;
     private int totalFermentationTime;
 
@@ -93,25 +107,61 @@ public class FermentationBarrelBlockEntity extends BlockEntity implements Implem
     @Override
     public void tick(Level world, BlockPos pos, BlockState state, FermentationBarrelBlockEntity blockEntity) {
         if (world.isClientSide) return;
-        boolean dirty = false;
-        Recipe<?> recipe = world.getRecipeManager().getRecipeFor(RecipeTypesRegistry.FERMENTATION_BARREL_RECIPE_TYPE.get(), this, world).orElse(null);
+        String outcome;
+        if (!VineryProfiler.isRecording()) {
+            outcome = serverTick(world);
+        } else {
+            long start = System.nanoTime();
+            FermentationBarrelTickEvent event = new FermentationBarrelTickEvent();
+            event.begin();
+            outcome = serverTick(world);
+            event.finish(pos, outcome);
+            VineryProfiler.record(VineryProfiler.Subsystem.BARRELS, start, world, pos);
+        }
+        if (VineryMetrics.ENABLED) {
+            VineryMetrics.BARRELS.tick(outcome.equals(FERMENTING) || outcome.equals(CRAFTED));
+        }
+    }
+
+    @Nullable
+    private FermentationBarrelRecipe findRecipe(Level world) {
+        Optional<Pair<ResourceLocation, FermentationBarrelRecipe>> found = world.getRecipeManager()
+                .getRecipeFor(RecipeTypesRegistry.FERMENTATION_BARREL_RECIPE_TYPE.get(), this, world, lastRecipe);
+        if (VineryMetrics.ENABLED) {
+            VineryMetrics.BARREL_RECIPES.record(found.isPresent() && found.get().getFirst().equals(lastRecipe));
+        }
+        if (found.isEmpty()) return null;
+        lastRecipe = found.get().getFirst();
+        return found.get().getSecond();
+    }
+
+    /**
+     * @return the outcome of the tick for {@link FermentationBarrelTickEvent}
+     */
+    private String serverTick(Level world) {
+        Recipe<?> recipe = findRecipe(world);
         assert level != null;
         RegistryAccess access = level.registryAccess();
-        if (canCraft(recipe, access)) {
-            this.fermentationTime++;
-
-            if (this.fermentationTime >= this.totalFermentationTime) {
-                this.fermentationTime = 0;
-                craft(recipe, access);
-                dirty = true;
-            }
-        } else {
+        if (!canCraft(recipe, access)) {
             this.fermentationTime = 0;
+            return recipe == null ? NO_RECIPE : BLOCKED;
         }
-        if (dirty) {
-            setChanged();
+        this.fermentationTime++;
+        if (this.fermentationTime < this.totalFermentationTime) {
+            return FERMENTING;
         }
-
+        this.fermentationTime = 0;
+        if (!VineryEvents.ENABLED) {
+            craft(recipe, access);
+        } else {
+            FermentationBarrelCraftEvent event = new FermentationBarrelCraftEvent();
+            event.begin();
+            craft(recipe, access);
+            event.finish(worldPosition, recipe.getId().toString());
+        }
+        if (VineryMetrics.ENABLED) VineryMetrics.BOTTLES_FERMENTED.increment();
+        setChanged();
+        return CRAFTED;
     }
 
     private boolean canCraft(Recipe<?> recipe, RegistryAccess access) {
@@ -197,7 +247,7 @@ public class FermentationBarrelBlockEntity extends BlockEntity implements Implem
         }
         if (slot == BOTTLE_INPUT_SLOT || slot == 2 || slot == 3 || slot == 4|| slot == 5) {
             if (!dirty) {
-                this.totalFermentationTime = VineryConfig.DEFAULT.getConfig().fermentationBarrelTime();
+                this.totalFermentationTime = ConfigSnapshot.get().config().fermentationBarrelTime();
                 this.fermentationTime = 0;
                 setChanged();
             }
@@ -24,6 +24,7 @@ import net.minecraft.world.level.gameevent.GameEvent;
 import net.minecraft.world.phys.BlockHitResult;
 import net.satisfy.vinery.registry.GrapeTypeRegistry;
 import net.satisfy.vinery.registry.ObjectRegistry;
+import net.satisfy.vinery.util.metrics.VineryMetrics;
 import org.jetbrains.annotations.NotNull;
 
 @SuppressWarnings("deprecation")
@@ -56,6 +57,7 @@ public class GrapeVineBlock extends VineBlock implements BonemealableBlock {
         } else if (i > 1) {
             int x = world.random.nextInt(2);
             popResource(world, pos, new ItemStack(this.type == GrapeTypeRegistry.JUNGLE_RED ? ObjectRegistry.JUNGLE_RED_GRAPE.get() : ObjectRegistry.JUNGLE_WHITE_GRAPE.get(), x + (bl ? 1 : 0)));
+            if (VineryMetrics.ENABLED && !world.isClientSide) VineryMetrics.GRAPES_HARVESTED.add(x + (bl ? 1 : 0));
             world.playSound(null, pos, SoundEvents.SWEET_BERRY_BUSH_PICK_BERRIES, SoundSource.BLOCKS, 1.0F, 0.8F + world.random.nextFloat() * 0.4F);
             world.setBlock(pos, state.setValue(AGE, 1), 2);
             return InteractionResult.sidedSuccess(world.isClientSide);
@@ -31,12 +31,11 @@ import net.minecraft.world.level.block.state.properties.EnumProperty;
 import net.minecraft.world.phys.BlockHitResult;
 import net.minecraft.world.phys.shapes.CollisionContext;
 import net.minecraft.world.phys.shapes.VoxelShape;
-import net.satisfy.vinery.config.VineryConfig;
+import net.satisfy.vinery.config.ConfigSnapshot;
 import net.satisfy.vinery.item.GrapeBushSeedItem;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Random;
 
 public class LatticeBlock extends StemBlock {
     public static final BooleanProperty SUPPORT = BooleanProperty.create("support");
@@ -148,8 +147,7 @@ public class LatticeBlock extends StemBlock {
     @Override
     @SuppressWarnings("deprecation")
     public void randomTick(BlockState state, ServerLevel world, BlockPos pos, RandomSource random) {
-        Random rand = new Random();
-        if (rand.nextInt(100) + 1 > VineryConfig.DEFAULT.getConfig().grapeGrowthSpeed() || isMature(state)) return;
+        if (random.nextFloat() >= ConfigSnapshot.get().grapeGrowthChance() || isMature(state)) return;
         int age = state.getValue(AGE);
         BlockState newState = this.withAge(state, age + 1, state.getValue(GRAPE));
         world.setBlock(pos, newState, UPDATE_CLIENTS);
@@ -22,13 +22,12 @@ import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.phys.BlockHitResult;
 import net.minecraft.world.phys.shapes.CollisionContext;
 import net.minecraft.world.phys.shapes.VoxelShape;
-import net.satisfy.vinery.config.VineryConfig;
+import net.satisfy.vinery.config.ConfigSnapshot;
 import net.satisfy.vinery.item.GrapeBushSeedItem;
 import net.satisfy.vinery.registry.GrapeTypeRegistry;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Random;
 
 @SuppressWarnings("deprecation")
 public class PaleStemBlock extends StemBlock {
@@ -116,8 +115,7 @@ public class PaleStemBlock extends StemBlock {
 
     @Override
     public void randomTick(BlockState state, ServerLevel world, BlockPos pos, RandomSource random) {
-        Random rand = new Random();
-        if (!((rand.nextInt(100) + 1) <= VineryConfig.DEFAULT.getConfig().grapeGrowthSpeed())) return;
+        if (random.nextFloat() >= ConfigSnapshot.get().grapeGrowthChance()) return;
         if (!isMature(state) && hasTrunk(world, pos) && state.getValue(AGE) > 0) {
             final int i;
             if (world.getRawBrightness(pos, 0) >= 9 && (i = state.getValue(AGE)) < 4) {
@@ -26,6 +26,7 @@ import net.minecraft.world.phys.BlockHitResult;
 import net.satisfy.vinery.block.grape.GrapeProperty;
 import net.satisfy.vinery.block.grape.GrapeType;
 import net.satisfy.vinery.registry.GrapeTypeRegistry;
+import net.satisfy.vinery.util.metrics.VineryMetrics;
 import org.jetbrains.annotations.NotNull;
 
 public abstract class StemBlock extends Block implements BonemealableBlock {
@@ -42,6 +43,7 @@ public abstract class StemBlock extends Block implements BonemealableBlock {
         final int bonus = this.isMature(state) ? 2 : 1;
         Item grape = state.getValue(GRAPE).getFruit();
         ItemStack stack = new ItemStack(grape, x + bonus);
+        if (VineryMetrics.ENABLED && !world.isClientSide) VineryMetrics.GRAPES_HARVESTED.add(stack.getCount());
 
         if (direction == null) popResource(world, pos, stack);
         else GeneralUtil.popResourceFromFace(world, pos, direction, stack);
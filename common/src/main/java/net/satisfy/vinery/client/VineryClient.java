@@ -1,7 +1,9 @@
 package net.satisfy.vinery.client;
 
 import de.cristelknight.doapi.terraform.sign.TerraformSignHelper;
+import dev.architectury.event.events.client.ClientPlayerEvent;
 import dev.architectury.platform.Platform;
+import dev.architectury.registry.ReloadListenerRegistry;
 import dev.architectury.registry.client.level.entity.EntityModelLayerRegistry;
 import dev.architectury.registry.client.level.entity.EntityRendererRegistry;
 import dev.architectury.registry.client.rendering.BlockEntityRendererRegistry;
@@ -13,6 +15,7 @@ import net.fabricmc.api.Environment;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.renderer.BiomeColors;
 import net.minecraft.client.renderer.RenderType;
+import net.minecraft.server.packs.PackType;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.level.GrassColor;
 import net.satisfy.vinery.client.gui.ApplePressGui;
@@ -24,7 +27,9 @@ import net.satisfy.vinery.client.render.block.BasketRenderer;
 import net.satisfy.vinery.client.render.entity.MuleRenderer;
 import net.satisfy.vinery.client.render.entity.WanderingWinemakerRenderer;
 import net.satisfy.vinery.network.VineryNetwork;
+import net.satisfy.vinery.network.packet.ConfigSyncS2CPacket;
 import net.satisfy.vinery.registry.*;
+import net.satisfy.vinery.util.ShaderUtils;
 
 import static net.satisfy.vinery.Vinery.LOGGER;
 import static net.satisfy.vinery.registry.ObjectRegistry.*;
@@ -34,6 +39,9 @@ public class VineryClient {
     public static void onInitializeClient() {
 
         VineryNetwork.registerS2CPackets();
+        ClientPlayerEvent.CLIENT_PLAYER_JOIN.register(player -> ConfigSyncS2CPacket.requestSync());
+        ClientPlayerEvent.CLIENT_PLAYER_QUIT.register(player -> ConfigSyncS2CPacket.reset());
+        ReloadListenerRegistry.register(PackType.CLIENT_RESOURCES, new ShaderUtils.ReloadListener());
 
         RenderTypeRegistry.register(RenderType.cutout(),
                 RED_GRAPE_BUSH.get(), WHITE_GRAPE_BUSH.get(), DARK_CHERRY_DOOR.get(), FERMENTATION_BARREL.get(),
@@ -18,7 +18,9 @@ import net.minecraft.client.gui.screens.Screen;
 import net.minecraft.network.chat.Component;
 import net.minecraft.resources.ResourceLocation;
 import net.satisfy.vinery.Vinery;
+import net.satisfy.vinery.config.ConfigSnapshot;
 import net.satisfy.vinery.config.VineryConfig;
+import net.satisfy.vinery.network.packet.ConfigSyncS2CPacket;
 
 public class ClothConfigScreen {
 
@@ -34,8 +36,11 @@ public class ClothConfigScreen {
 
         ConfigEntries entries = new ConfigEntries(builder.entryBuilder(), config, builder.getOrCreateCategory(CCUtil.categoryName("main", Vinery.MOD_ID)));
         builder.setSavingRunnable(() -> {
-            VineryConfig.DEFAULT.setInstance(entries.createConfig().validate());
+            VineryConfig saved = entries.createConfig().validate();
+            VineryConfig.DEFAULT.setInstance(saved);
             VineryConfig.DEFAULT.getConfig(true, true);
+            // While connected to a server its config stays in effect
+            if (!ConfigSyncS2CPacket.isSynced()) ConfigSnapshot.publish(saved);
         });
         return builder.build();
     }
@@ -45,7 +50,7 @@ public class ClothConfigScreen {
         private final ConfigCategory category;
         private final BooleanListEntry enableWineMakerSetBonus, destroyBlocks;
         private final IntegerListEntry wineTraderChance, yearLengthInDays, yearsPerEffectLevel, fermentationBarrelTime, damagePerUse, probabilityForDamage, probabilityToKeepBoneMeal, grapeGrowthSpeed;
-        private final IntegerListEntry wineEffectDuration, wineEffectStrength;
+        private final IntegerListEntry wineEffectDuration, wineEffectStrength, particleBudgetPerPlayer, teleportRange, winemakerSpawnRadius, winemakerSpawnAttempts;
 
         public ConfigEntries(ConfigEntryBuilder builder, VineryConfig config, ConfigCategory category) {
             this.builder = builder;
@@ -67,13 +72,17 @@ public class ClothConfigScreen {
             probabilityForDamage = createIntField("probabilityForDamage", config.probabilityForDamage(), VineryConfig.DEFAULT.probabilityForDamage(), wineMaker, 0, 100);
             damagePerUse = createIntField("damagePerUse", config.damagePerUse(), VineryConfig.DEFAULT.damagePerUse(), wineMaker, 1, 1000);
             destroyBlocks = createBooleanField("destroyBlocks", config.destroyBlocks(), VineryConfig.DEFAULT.destroyBlocks(), null);
+            particleBudgetPerPlayer = createIntField("particleBudgetPerPlayer", config.particleBudgetPerPlayer(), VineryConfig.DEFAULT.particleBudgetPerPlayer(), null, 0, 10000);
+            teleportRange = createIntField("teleportRange", config.teleportRange(), VineryConfig.DEFAULT.teleportRange(), null, 2, 128);
+            winemakerSpawnRadius = createIntField("winemakerSpawnRadius", config.winemakerSpawnRadius(), VineryConfig.DEFAULT.winemakerSpawnRadius(), null, 8, 128);
+            winemakerSpawnAttempts = createIntField("winemakerSpawnAttempts", config.winemakerSpawnAttempts(), VineryConfig.DEFAULT.winemakerSpawnAttempts(), null, 1, 10);
 
             category.addEntry(wineMaker.build());
             linkButtons(Vinery.MOD_ID, category, builder, "https://discord.gg/Vqu6wYZwdZ", "https://www.curseforge.com/minecraft/mc-mods/lets-do-wine", lastScreen);
         }
 
         public VineryConfig createConfig() {
-            return new VineryConfig(wineTraderChance.getValue(), yearLengthInDays.getValue(), yearsPerEffectLevel.getValue(), enableWineMakerSetBonus.getValue(), damagePerUse.getValue(), probabilityForDamage.getValue(), probabilityToKeepBoneMeal.getValue(), fermentationBarrelTime.getValue(), grapeGrowthSpeed.getValue(), wineEffectDuration.getValue(), wineEffectStrength.getValue(), destroyBlocks.getValue());
+            return new VineryConfig(wineTraderChance.getValue(), yearLengthInDays.getValue(), yearsPerEffectLevel.getValue(), enableWineMakerSetBonus.getValue(), damagePerUse.getValue(), probabilityForDamage.getValue(), probabilityToKeepBoneMeal.getValue(), fermentationBarrelTime.getValue(), grapeGrowthSpeed.getValue(), wineEffectDuration.getValue(), wineEffectStrength.getValue(), destroyBlocks.getValue(), particleBudgetPerPlayer.getValue(), teleportRange.getValue(), winemakerSpawnRadius.getValue(), winemakerSpawnAttempts.getValue());
         }
 
         public BooleanListEntry createBooleanField(String id, boolean value, boolean defaultValue, SubCategoryBuilder subCategoryBuilder){
@@ -2,6 +2,9 @@ package net.satisfy.vinery.client.gui.handler;
 
 import de.cristelknight.doapi.client.recipebook.IRecipeBookGroup;
 import de.cristelknight.doapi.client.recipebook.handler.AbstractRecipeBookGUIScreenHandler;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
+import net.minecraft.network.chat.Component;
 import net.minecraft.world.Container;
 import net.minecraft.world.SimpleContainer;
 import net.minecraft.world.entity.player.Inventory;
@@ -18,10 +21,18 @@ import net.satisfy.vinery.recipe.FermentationBarrelRecipe;
 import net.satisfy.vinery.registry.ObjectRegistry;
 import net.satisfy.vinery.registry.RecipeTypesRegistry;
 import net.satisfy.vinery.registry.ScreenhandlerTypeRegistry;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Predicate;
 
 public class FermentationBarrelGuiHandler extends AbstractRecipeBookGUIScreenHandler {
+    private static final int INGREDIENT_SLOTS = 4;
+    private static final int PLAYER_SLOTS_START = 6;
+    private static final int FOUND_IN_PLACE = -1;
+    private static final int MISSING = -2;
+
     public FermentationBarrelGuiHandler(int syncId, Inventory playerInventory) {
         this(syncId, playerInventory, new SimpleContainer(6), new SimpleContainerData(2));
     }
@@ -65,6 +76,65 @@ public class FermentationBarrelGuiHandler extends AbstractRecipeBookGUIScreenHan
         return progress * arrowWidth/ totalProgress + 1;
     }
 
+    /**
+     * Moves a wine bottle stack and a stack of every ingredient into the input slots, swapping out what was in them.
+     * Ingredients are taken from the other ingredient slots first, then from the player inventory. Nothing is moved
+     * unless everything was found.
+     */
+    public FillResult fillRecipe(FermentationBarrelRecipe recipe) {
+        List<Ingredient> ingredients = recipe.getIngredients();
+        int inputs = Math.min(ingredients.size(), INGREDIENT_SLOTS);
+        List<Predicate<ItemStack>> predicates = new ArrayList<>(inputs + 1);
+        predicates.add(stack -> stack.is(ObjectRegistry.WINE_BOTTLE.get()));
+        predicates.addAll(ingredients.subList(0, inputs));
+
+        // Stacks already in place are claimed first, so they aren't moved to another target
+        int[] sources = new int[predicates.size()];
+        IntSet used = new IntOpenHashSet();
+        for (int target = 0; target < sources.length; target++) {
+            ItemStack inPlace = this.slots.get(target).getItem();
+            sources[target] = !inPlace.isEmpty() && predicates.get(target).test(inPlace) ? FOUND_IN_PLACE : MISSING;
+            if (sources[target] == FOUND_IN_PLACE) used.add(target);
+        }
+        for (int target = 0; target < sources.length; target++) {
+            if (sources[target] != MISSING) continue;
+            // The bottle slot only takes bottles, so bottles are never searched for in the ingredient slots
+            if (target > 0) sources[target] = findSource(predicates.get(target), 1, 1 + INGREDIENT_SLOTS, used);
+            if (sources[target] == MISSING) sources[target] = findSource(predicates.get(target), PLAYER_SLOTS_START, this.slots.size(), used);
+            if (sources[target] == MISSING) return target == 0 ? FillResult.MISSING_BOTTLE : FillResult.MISSING_INGREDIENTS;
+        }
+
+        for (int target = 0; target < sources.length; target++) {
+            int source = sources[target];
+            if (source == FOUND_IN_PLACE) continue;
+            swap(source, target);
+            // The stack that was in the target is now in the source slot, a later target may be looking for it
+            for (int later = target + 1; later < sources.length; later++) {
+                if (sources[later] == target) sources[later] = source;
+            }
+        }
+        return FillResult.FILLED;
+    }
+
+    private int findSource(Predicate<ItemStack> predicate, int from, int to, IntSet used) {
+        for (int i = from; i < to; i++) {
+            ItemStack stack = this.slots.get(i).getItem();
+            if (!stack.isEmpty() && !used.contains(i) && predicate.test(stack)) {
+                used.add(i);
+                return i;
+            }
+        }
+        return MISSING;
+    }
+
+    private void swap(int from, int to) {
+        Slot source = this.slots.get(from);
+        Slot target = this.slots.get(to);
+        ItemStack moved = source.getItem();
+        source.set(target.getItem());
+        target.set(moved);
+    }
+
     @Override
     public List<IRecipeBookGroup> getGroups() {
         return FermentationBarrelRecipeBookGroup.FERMENTATION_GROUPS;
@@ -98,4 +168,25 @@ public class FermentationBarrelGuiHandler extends AbstractRecipeBookGUIScreenHan
     public int getCraftingSlotCount() {
         return 5;
     }
+
+    public enum FillResult {
+        FILLED(null),
+        MISSING_BOTTLE("gui.vinery.fermentation_barrel.missing_bottle"),
+        MISSING_INGREDIENTS("gui.vinery.fermentation_barrel.missing_ingredients");
+
+        @Nullable
+        private final String message;
+
+        FillResult(@Nullable String message) {
+            this.message = message;
+        }
+
+        /**
+         * The message shown to the player when the barrel couldn't be filled.
+         */
+        @Nullable
+        public Component message() {
+            return message != null ? Component.translatable(message) : null;
+        }
+    }
 }
@@ -3,17 +3,17 @@ package net.satisfy.vinery.client.recipebook;
 import de.cristelknight.doapi.client.recipebook.screen.widgets.PrivateRecipeBookWidget;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
-import net.minecraft.client.Minecraft;
 import net.minecraft.core.RegistryAccess;
 import net.minecraft.network.chat.Component;
 import net.minecraft.util.RandomSource;
 import net.minecraft.world.Container;
-import net.minecraft.world.inventory.ClickType;
 import net.minecraft.world.inventory.Slot;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.crafting.Ingredient;
 import net.minecraft.world.item.crafting.Recipe;
 import net.minecraft.world.item.crafting.RecipeType;
+import net.satisfy.vinery.network.VineryNetwork;
+import net.satisfy.vinery.network.packet.FillRecipeC2SPacket;
 import net.satisfy.vinery.recipe.FermentationBarrelRecipe;
 import net.satisfy.vinery.registry.ObjectRegistry;
 import net.satisfy.vinery.registry.RecipeTypesRegistry;
@@ -47,32 +47,7 @@ public class FermentationPotRecipeBook extends PrivateRecipeBookWidget {
     @Override
     public void insertRecipe(Recipe<?> recipe) {
         if (recipe instanceof FermentationBarrelRecipe) {
-            int slotIndex = 0;
-            for (Slot slot : this.screenHandler.slots) {
-                if (slot.getItem().getItem() == ObjectRegistry.WINE_BOTTLE.get().asItem()) {
-                    assert Minecraft.getInstance().gameMode != null;
-                    Minecraft.getInstance().gameMode.handleInventoryMouseClick(screenHandler.containerId, slotIndex, 0, ClickType.PICKUP, Minecraft.getInstance().player);
-                    Minecraft.getInstance().gameMode.handleInventoryMouseClick(screenHandler.containerId, 0, 0, ClickType.PICKUP, Minecraft.getInstance().player);
-                    break;
-                }
-                ++slotIndex;
-            }
-        }
-        int usedInputSlots = 1;
-        for (Ingredient ingredient : recipe.getIngredients()) {
-            int slotIndex = 0;
-            for (Slot slot : this.screenHandler.slots) {
-                ItemStack itemStack = slot.getItem();
-
-                if (ingredient.test(itemStack) && usedInputSlots < 5) {
-                    assert Minecraft.getInstance().gameMode != null;
-                    Minecraft.getInstance().gameMode.handleInventoryMouseClick(screenHandler.containerId, slotIndex, 0, ClickType.PICKUP, Minecraft.getInstance().player);
-                    Minecraft.getInstance().gameMode.handleInventoryMouseClick(screenHandler.containerId, usedInputSlots, 0, ClickType.PICKUP, Minecraft.getInstance().player);
-                    ++usedInputSlots;
-                    break;
-                }
-                ++slotIndex;
-            }
+            VineryNetwork.sendToServer(new FillRecipeC2SPacket(this.screenHandler.containerId, recipe.getId()));
         }
     }
 
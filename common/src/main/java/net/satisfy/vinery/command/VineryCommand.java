@@ -0,0 +1,119 @@
+package net.satisfy.vinery.command;
+
+import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import net.minecraft.commands.CommandBuildContext;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.chat.Component;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+import net.satisfy.vinery.Vinery;
+import net.satisfy.vinery.config.ConfigSnapshot;
+import net.satisfy.vinery.network.ConfigSync;
+import net.satisfy.vinery.util.profiling.VineryProfiler;
+
+import java.util.List;
+import java.util.Locale;
+
+public class VineryCommand {
+    private static final int DEFAULT_TOP = 5;
+
+    public static void register(CommandDispatcher<CommandSourceStack> dispatcher, CommandBuildContext context, Commands.CommandSelection selection) {
+        dispatcher.register(Commands.literal(Vinery.MOD_ID)
+                .requires(source -> source.hasPermission(2))
+                .then(Commands.literal("reload").executes(ctx -> reload(ctx.getSource())))
+                .then(Commands.literal("profile")
+                        .then(Commands.literal("start").executes(ctx -> startProfile(ctx.getSource())))
+                        .then(Commands.literal("stop").executes(ctx -> stopProfile(ctx.getSource())))
+                        .then(Commands.literal("report")
+                                .executes(ctx -> reportProfile(ctx.getSource(), DEFAULT_TOP))
+                                .then(Commands.argument("top", IntegerArgumentType.integer(1, 50))
+                                        .executes(ctx -> reportProfile(ctx.getSource(), IntegerArgumentType.getInteger(ctx, "top"))))))
+        );
+    }
+
+    private static int reload(CommandSourceStack source) {
+        try {
+            ConfigSnapshot.reload();
+            ConfigSync.sendToAll(source.getServer());
+        } catch (RuntimeException e) {
+            Vinery.LOGGER.error("Couldn't reload the vinery config", e);
+            source.sendFailure(Component.translatable("commands.vinery.reload.failed"));
+            return 0;
+        }
+        source.sendSuccess(() -> Component.translatable("commands.vinery.reload.success"), true);
+        return 1;
+    }
+
+    private static int startProfile(CommandSourceStack source) {
+        if (!VineryProfiler.start(source.getServer())) {
+            source.sendFailure(Component.translatable("commands.vinery.profile.already_running"));
+            return 0;
+        }
+        source.sendSuccess(() -> Component.translatable("commands.vinery.profile.started"), true);
+        return 1;
+    }
+
+    private static int stopProfile(CommandSourceStack source) {
+        VineryProfiler.Report report = VineryProfiler.stop(source.getServer(), DEFAULT_TOP);
+        if (report == null) {
+            source.sendFailure(Component.translatable("commands.vinery.profile.not_running"));
+            return 0;
+        }
+        sendReport(source, report);
+        return 1;
+    }
+
+    private static int reportProfile(CommandSourceStack source, int top) {
+        VineryProfiler.Report report = VineryProfiler.report(source.getServer(), top);
+        if (report == null) {
+            source.sendFailure(Component.translatable("commands.vinery.profile.not_running"));
+            return 0;
+        }
+        sendReport(source, report);
+        return 1;
+    }
+
+    private static void sendReport(CommandSourceStack source, VineryProfiler.Report report) {
+        int ticks = Math.max(report.ticks(), 1);
+        source.sendSuccess(() -> Component.translatable("commands.vinery.profile.header", report.ticks(),
+                format(report.wallNanos() / 1.0E9D), millis(report.totalNanos()), millis(report.totalNanos() / ticks)), false);
+        for (VineryProfiler.Subsystem subsystem : VineryProfiler.Subsystem.values()) {
+            long nanos = report.nanos()[subsystem.ordinal()];
+            long calls = report.calls()[subsystem.ordinal()];
+            source.sendSuccess(() -> Component.translatable("commands.vinery.profile.subsystem", subsystem.getName(),
+                    millis(nanos), millis(nanos / ticks), calls), false);
+        }
+        sendHotspots(source, "commands.vinery.profile.chunks", report.chunks(), true);
+        sendHotspots(source, "commands.vinery.profile.block_entities", report.blockEntities(), false);
+    }
+
+    private static void sendHotspots(CommandSourceStack source, String title, List<VineryProfiler.Hotspot> hotspots, boolean chunks) {
+        if (hotspots.isEmpty()) return;
+        source.sendSuccess(() -> Component.translatable(title), false);
+        for (VineryProfiler.Hotspot hotspot : hotspots) {
+            Component where;
+            if (chunks) {
+                where = Component.literal(new ChunkPos(hotspot.pos()).toString());
+            } else {
+                BlockPos pos = BlockPos.of(hotspot.pos());
+                ServerLevel level = source.getServer().getLevel(hotspot.dimension());
+                where = level != null && level.isLoaded(pos)
+                        ? Component.literal(pos.toShortString() + " ").append(level.getBlockState(pos).getBlock().getName())
+                        : Component.literal(pos.toShortString());
+            }
+            source.sendSuccess(() -> Component.translatable("commands.vinery.profile.hotspot",
+                    hotspot.dimension().location().toString(), where, millis(hotspot.nanos())), false);
+        }
+    }
+
+    private static String millis(long nanos) {
+        return format(nanos / 1.0E6D);
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.3f", value);
+    }
+}
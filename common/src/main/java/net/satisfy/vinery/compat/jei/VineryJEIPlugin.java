@@ -15,7 +15,7 @@ import net.minecraft.world.item.crafting.RecipeManager;
 import net.satisfy.vinery.client.gui.handler.ApplePressGuiHandler;
 import net.satisfy.vinery.compat.jei.category.ApplePressCategory;
 import net.satisfy.vinery.compat.jei.category.FermentationBarrelCategory;
-import net.satisfy.vinery.compat.jei.transfer.FermentationTransferInfo;
+import net.satisfy.vinery.compat.jei.transfer.FermentationTransferHandler;
 import net.satisfy.vinery.recipe.ApplePressRecipe;
 import net.satisfy.vinery.recipe.FermentationBarrelRecipe;
 import net.satisfy.vinery.registry.ObjectRegistry;
@@ -58,7 +58,7 @@ public class VineryJEIPlugin implements IModPlugin {
     public void registerRecipeTransferHandlers(IRecipeTransferRegistration registration) {
         registration.addRecipeTransferHandler(ApplePressGuiHandler.class, ScreenhandlerTypeRegistry.APPLE_PRESS_GUI_HANDLER.get(), ApplePressCategory.APPLE_PRESS,
                 0, 1, 2, 36);
-        registration.addRecipeTransferHandler(new FermentationTransferInfo());
+        registration.addRecipeTransferHandler(new FermentationTransferHandler(registration.getTransferHelper()), FermentationBarrelCategory.FERMENTATION_BARREL);
     }
 
     @Override
@@ -0,0 +1,57 @@
+package net.satisfy.vinery.compat.jei.transfer;
+
+import mezz.jei.api.gui.ingredient.IRecipeSlotsView;
+import mezz.jei.api.recipe.RecipeType;
+import mezz.jei.api.recipe.transfer.IRecipeTransferError;
+import mezz.jei.api.recipe.transfer.IRecipeTransferHandler;
+import mezz.jei.api.recipe.transfer.IRecipeTransferHandlerHelper;
+import net.minecraft.network.chat.Component;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.inventory.MenuType;
+import net.satisfy.vinery.client.gui.handler.FermentationBarrelGuiHandler;
+import net.satisfy.vinery.compat.jei.category.FermentationBarrelCategory;
+import net.satisfy.vinery.network.VineryNetwork;
+import net.satisfy.vinery.network.packet.FillRecipeC2SPacket;
+import net.satisfy.vinery.recipe.FermentationBarrelRecipe;
+import net.satisfy.vinery.registry.ScreenhandlerTypeRegistry;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Optional;
+
+/**
+ * Fills the barrel through {@link FillRecipeC2SPacket}, the same way the recipe book does.
+ */
+public class FermentationTransferHandler implements IRecipeTransferHandler<FermentationBarrelGuiHandler, FermentationBarrelRecipe> {
+    private final IRecipeTransferHandlerHelper helper;
+
+    public FermentationTransferHandler(IRecipeTransferHandlerHelper helper) {
+        this.helper = helper;
+    }
+
+    @Override
+    public @NotNull Class<? extends FermentationBarrelGuiHandler> getContainerClass() {
+        return FermentationBarrelGuiHandler.class;
+    }
+
+    @Override
+    public @NotNull Optional<MenuType<FermentationBarrelGuiHandler>> getMenuType() {
+        return Optional.of(ScreenhandlerTypeRegistry.FERMENTATION_BARREL_GUI_HANDLER.get());
+    }
+
+    @Override
+    public @NotNull RecipeType<FermentationBarrelRecipe> getRecipeType() {
+        return FermentationBarrelCategory.FERMENTATION_BARREL;
+    }
+
+    @Override
+    public @Nullable IRecipeTransferError transferRecipe(FermentationBarrelGuiHandler container, FermentationBarrelRecipe recipe, IRecipeSlotsView recipeSlots, Player player, boolean maxTransfer, boolean doTransfer) {
+        if (!container.hasIngredient(recipe)) {
+            return helper.createUserErrorWithTooltip(Component.translatable("jei.tooltip.error.recipe.transfer.missing"));
+        }
+        if (doTransfer) {
+            VineryNetwork.sendToServer(new FillRecipeC2SPacket(container.containerId, recipe.getId()));
+        }
+        return null;
+    }
+}
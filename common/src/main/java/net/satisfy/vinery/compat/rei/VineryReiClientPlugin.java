@@ -2,6 +2,7 @@ package net.satisfy.vinery.compat.rei;
 
 import me.shedaniel.rei.api.client.registry.category.CategoryRegistry;
 import me.shedaniel.rei.api.client.registry.display.DisplayRegistry;
+import me.shedaniel.rei.api.client.registry.transfer.TransferHandlerRegistry;
 import me.shedaniel.rei.api.common.util.EntryStacks;
 import net.minecraft.world.Container;
 import net.minecraft.world.item.ItemStack;
@@ -11,6 +12,7 @@ import net.satisfy.vinery.compat.rei.press.ApplePressCategory;
 import net.satisfy.vinery.compat.rei.press.ApplePressDisplay;
 import net.satisfy.vinery.compat.rei.wine.FermentationBarrelCategory;
 import net.satisfy.vinery.compat.rei.wine.FermentationBarrelDisplay;
+import net.satisfy.vinery.compat.rei.wine.FermentationTransferHandler;
 import net.satisfy.vinery.recipe.ApplePressRecipe;
 import net.satisfy.vinery.recipe.FermentationBarrelRecipe;
 import net.satisfy.vinery.registry.ObjectRegistry;
@@ -32,6 +34,10 @@ public class VineryReiClientPlugin {
         registry.registerFiller(ApplePressRecipe.class, ApplePressDisplay::new);
     }
 
+    public static void registerTransferHandlers(TransferHandlerRegistry registry) {
+        registry.register(new FermentationTransferHandler());
+    }
+
     public static List<Ingredient> ingredients(Recipe<Container> recipe, ItemStack stack){
         List<Ingredient> l = new ArrayList<>(recipe.getIngredients());
         l.add(0, Ingredient.of(stack.getItem()));
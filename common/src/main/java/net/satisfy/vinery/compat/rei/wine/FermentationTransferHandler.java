@@ -0,0 +1,38 @@
+package net.satisfy.vinery.compat.rei.wine;
+
+import me.shedaniel.rei.api.client.registry.transfer.TransferHandler;
+import net.minecraft.client.Minecraft;
+import net.minecraft.network.chat.Component;
+import net.minecraft.world.item.crafting.Recipe;
+import net.satisfy.vinery.client.gui.handler.FermentationBarrelGuiHandler;
+import net.satisfy.vinery.network.VineryNetwork;
+import net.satisfy.vinery.network.packet.FillRecipeC2SPacket;
+import net.satisfy.vinery.recipe.FermentationBarrelRecipe;
+
+/**
+ * Fills the barrel through {@link FillRecipeC2SPacket}, the same way the recipe book does.
+ */
+public class FermentationTransferHandler implements TransferHandler {
+    @Override
+    public Result handle(Context context) {
+        if (!(context.getDisplay() instanceof FermentationBarrelDisplay display) || !(context.getMenu() instanceof FermentationBarrelGuiHandler menu)) {
+            return Result.createNotApplicable();
+        }
+        Minecraft minecraft = context.getMinecraft();
+        if (minecraft.level == null || display.getDisplayLocation().isEmpty()) {
+            return Result.createNotApplicable();
+        }
+        Recipe<?> recipe = minecraft.level.getRecipeManager().byKey(display.getDisplayLocation().get()).orElse(null);
+        if (!(recipe instanceof FermentationBarrelRecipe fermentationBarrelRecipe)) {
+            return Result.createNotApplicable();
+        }
+        if (!menu.hasIngredient(fermentationBarrelRecipe)) {
+            return Result.createFailed(Component.translatable("error.rei.not.enough.materials"));
+        }
+        if (context.isActuallyCrafting()) {
+            minecraft.setScreen(context.getContainerScreen());
+            VineryNetwork.sendToServer(new FillRecipeC2SPacket(menu.containerId, fermentationBarrelRecipe.getId()));
+        }
+        return Result.createSuccessful().blocksFurtherHandling();
+    }
+}
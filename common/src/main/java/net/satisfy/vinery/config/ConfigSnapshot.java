@@ -0,0 +1,50 @@
+package net.satisfy.vinery.config;
+
+/**
+ * The active {@link VineryConfig} together with the values derived from it. Snapshots are immutable and published as
+ * a whole, so hot paths read a single volatile field and never see half of an old and half of a new config.
+ * <p>
+ * A new snapshot is published when the config is loaded, saved from the config screen or reloaded with
+ * {@code /vinery reload}. Caches that depend on config values keep the snapshot they were built with and rebuild once
+ * {@link #get()} returns a different one.
+ */
+public record ConfigSnapshot(VineryConfig config, float grapeGrowthChance, float keepBoneMealChance,
+                             float armorDamageChance, long yearLengthInTicks) {
+    public static final long TICKS_PER_DAY = 24000L;
+
+    private static volatile ConfigSnapshot current;
+
+    private static ConfigSnapshot of(VineryConfig config) {
+        return new ConfigSnapshot(
+                config,
+                config.grapeGrowthSpeed() / 100F,
+                config.probabilityToKeepBoneMeal() / 100F,
+                config.probabilityForDamage() / 100F,
+                config.yearLengthInDays() * TICKS_PER_DAY
+        );
+    }
+
+    public static ConfigSnapshot get() {
+        ConfigSnapshot snapshot = current;
+        if (snapshot == null) {
+            // Only reached if something asks for the config before Vinery#init loaded it
+            snapshot = publish(VineryConfig.DEFAULT.getConfig().validate());
+        }
+        return snapshot;
+    }
+
+    public static ConfigSnapshot publish(VineryConfig config) {
+        ConfigSnapshot snapshot = of(config);
+        current = snapshot;
+        return snapshot;
+    }
+
+    /**
+     * Reads the config file again and publishes it.
+     */
+    public static ConfigSnapshot reload() {
+        VineryConfig config = VineryConfig.DEFAULT.getConfig(true, false).validate();
+        VineryConfig.DEFAULT.setInstance(config);
+        return publish(config);
+    }
+}
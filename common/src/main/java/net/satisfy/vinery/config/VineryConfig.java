@@ -10,11 +10,13 @@ import java.util.HashMap;
 public record VineryConfig(int wineTraderChance, int yearLengthInDays, int yearsPerEffectLevel,
                            boolean enableWineMakerSetBonus, int damagePerUse, int probabilityForDamage,
                            int probabilityToKeepBoneMeal, int fermentationBarrelTime, int grapeGrowthSpeed,
-                           int wineEffectDuration, int wineEffectStrength, boolean destroyBlocks) implements CommentedConfig<VineryConfig> {
+                           int wineEffectDuration, int wineEffectStrength, boolean destroyBlocks,
+                           int particleBudgetPerPlayer, int teleportRange, int winemakerSpawnRadius,
+                           int winemakerSpawnAttempts) implements CommentedConfig<VineryConfig> {
 
     private static VineryConfig INSTANCE = null;
 
-    public static final VineryConfig DEFAULT = new VineryConfig(50, 16, 4, true, 1, 30, 100, 6000, 100, 45 * 20, 1, true);
+    public static final VineryConfig DEFAULT = new VineryConfig(50, 16, 4, true, 1, 30, 100, 6000, 100, 45 * 20, 1, true, 200, 12, 48, 1);
 
     public static final Codec<VineryConfig> CODEC = RecordCodecBuilder.create(builder ->
             builder.group(
@@ -29,7 +31,11 @@ public record VineryConfig(int wineTraderChance, int yearLengthInDays, int years
                     Codec.intRange(0, 100).fieldOf("grape_growth_speed").orElse(DEFAULT.grapeGrowthSpeed).forGetter(VineryConfig::grapeGrowthSpeed),
                     Codec.intRange(1, 100000).fieldOf("wine_effect_duration").orElse(DEFAULT.wineEffectDuration).forGetter(VineryConfig::wineEffectDuration),
                     Codec.intRange(0, 4).fieldOf("wine_effect_strength").orElse(DEFAULT.wineEffectStrength).forGetter(VineryConfig::wineEffectStrength),
-                    Codec.BOOL.fieldOf("destroy_blocks").orElse(DEFAULT.destroyBlocks).forGetter(VineryConfig::destroyBlocks)
+                    Codec.BOOL.fieldOf("destroy_blocks").orElse(DEFAULT.destroyBlocks).forGetter(VineryConfig::destroyBlocks),
+                    Codec.intRange(0, 10000).fieldOf("particle_budget_per_player").orElse(DEFAULT.particleBudgetPerPlayer).forGetter(VineryConfig::particleBudgetPerPlayer),
+                    Codec.intRange(2, 128).fieldOf("teleport_range").orElse(DEFAULT.teleportRange).forGetter(VineryConfig::teleportRange),
+                    Codec.intRange(8, 128).fieldOf("winemaker_spawn_radius").orElse(DEFAULT.winemakerSpawnRadius).forGetter(VineryConfig::winemakerSpawnRadius),
+                    Codec.intRange(1, 10).fieldOf("winemaker_spawn_attempts").orElse(DEFAULT.winemakerSpawnAttempts).forGetter(VineryConfig::winemakerSpawnAttempts)
             ).apply(builder, VineryConfig::new)
     );
 
@@ -56,6 +62,14 @@ public record VineryConfig(int wineTraderChance, int yearLengthInDays, int years
                     Ticks it takes to ferment a bottle""");
             map.put("destroy_blocks", """
                     Whether the CreeperEffect should destroy blocks (true) or just kill the player (false).""");
+            map.put("particle_budget_per_player", """
+                    Maximum amount of effect particles (e.g. Lava Walker) sent to a single player per tick.""");
+            map.put("teleport_range", """
+                    Maximum distance (in blocks) the Teleport effect can move a player along their line of sight.""");
+            map.put("winemaker_spawn_radius", """
+                    Radius (in blocks) around a player's nearest meeting point, or the player, in which a wandering winemaker can spawn.""");
+            map.put("winemaker_spawn_attempts", """
+                    How many positions are tried to spawn a wandering winemaker before giving up until the next spawn check.""");
         });
     }
 
@@ -117,7 +131,11 @@ public record VineryConfig(int wineTraderChance, int yearLengthInDays, int years
                 grapeGrowthSpeed,
                 wineEffectDuration,
                 validateWineEffectStrength(wineEffectStrength),
-                destroyBlocks
+                destroyBlocks,
+                particleBudgetPerPlayer,
+                teleportRange,
+                winemakerSpawnRadius,
+                winemakerSpawnAttempts
         );
     }
 
@@ -7,7 +7,7 @@ import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.level.GameType;
 import net.minecraft.world.level.Level;
-import net.satisfy.vinery.config.VineryConfig;
+import net.satisfy.vinery.config.ConfigSnapshot;
 import org.jetbrains.annotations.Nullable;
 
 public class CreeperEffect extends InstantenousMobEffect {
@@ -32,7 +32,7 @@ public class CreeperEffect extends InstantenousMobEffect {
             double y = serverPlayer.getY();
             double z = serverPlayer.getZ();
             float power = (amplifier + 1) * 4;
-            boolean destroyBlocks = VineryConfig.getConfigInstance().destroyBlocks();
+            boolean destroyBlocks = ConfigSnapshot.get().config().destroyBlocks();
 
             if (destroyBlocks) {
                 world.explode(null, x, y, z, power, Level.ExplosionInteraction.TNT);
@@ -1,15 +1,18 @@
 package net.satisfy.vinery.effect.instant;
 
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
 import net.minecraft.sounds.SoundEvents;
+import net.minecraft.util.Mth;
 import net.minecraft.world.effect.InstantenousMobEffect;
 import net.minecraft.world.effect.MobEffectCategory;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.level.BlockGetter;
 import net.minecraft.world.level.Level;
-import net.minecraft.world.level.block.Block;
 import net.minecraft.world.phys.Vec3;
+import net.satisfy.vinery.config.ConfigSnapshot;
 import org.jetbrains.annotations.Nullable;
 
 public class TeleportEffect extends InstantenousMobEffect {
@@ -32,30 +35,71 @@ public class TeleportEffect extends InstantenousMobEffect {
         if (!(source instanceof Player player)) return;
 
         Level world = player.level();
-        Vec3 targetVec = player.position();
-        Vec3 lookVec = player.getLookAngle();
-        BlockPos target = null;
-        for (double i = 12; i >= 2; i -= 0.5) {
-            Vec3 v3d = targetVec.add(lookVec.multiply(i, i, i));
-            target = new BlockPos((int) Math.round(v3d.x), (int) Math.round(v3d.y), (int) Math.round(v3d.z));
-            if (!fullBlockAt(world, target) && !fullBlockAt(world, target.above())) {
-                break;
-            } else {
-                target = null;
-            }
-        }
+        BlockPos target = findTarget(world, player.position(), player.getLookAngle(), 2, ConfigSnapshot.get().config().teleportRange());
         if (target != null) {
             if (!player.level().isClientSide) {
-                Vec3 teleportVec = new Vec3(target.getX(), target.getY(), target.getZ());
-                player.teleportToWithTicket(teleportVec.x + 0.5, teleportVec.y, teleportVec.z + 0.5);
+                player.teleportToWithTicket(target.getX() + 0.5, target.getY(), target.getZ() + 0.5);
             }
             player.fallDistance = 0;
             player.playSound(SoundEvents.ENDER_EYE_DEATH, 1F, 1F);
         }
     }
 
-    private static boolean fullBlockAt(Level world, BlockPos target){
-        return Block.isShapeFullBlock(world.getBlockState(target).getCollisionShape(world, target));
+    /**
+     * Walks the blocks along {@code direction} (a unit vector) with a voxel traversal, visiting every block once,
+     * and returns the farthest block between {@code minDistance} and {@code maxDistance} a player fits into.
+     */
+    @Nullable
+    public static BlockPos findTarget(BlockGetter world, Vec3 start, Vec3 direction, double minDistance, double maxDistance) {
+        int x = Mth.floor(start.x), y = Mth.floor(start.y), z = Mth.floor(start.z);
+        int stepX = direction.x > 0 ? 1 : -1, stepY = direction.y > 0 ? 1 : -1, stepZ = direction.z > 0 ? 1 : -1;
+        double deltaX = Math.abs(1 / direction.x), deltaY = Math.abs(1 / direction.y), deltaZ = Math.abs(1 / direction.z);
+        double maxX = firstBoundary(start.x, x, stepX, deltaX);
+        double maxY = firstBoundary(start.y, y, stepY, deltaY);
+        double maxZ = firstBoundary(start.z, z, stepZ, deltaZ);
+
+        BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        boolean found = false;
+        int targetX = 0, targetY = 0, targetZ = 0;
+        double distance = 0;
+        while (distance <= maxDistance) {
+            double exit = Math.min(maxX, Math.min(maxY, maxZ));
+            if (exit >= minDistance && fitsAt(world, pos.set(x, y, z))) {
+                found = true;
+                targetX = x;
+                targetY = y;
+                targetZ = z;
+            }
+            distance = exit;
+            if (maxX == exit) {
+                x += stepX;
+                maxX += deltaX;
+            } else if (maxY == exit) {
+                y += stepY;
+                maxY += deltaY;
+            } else {
+                z += stepZ;
+                maxZ += deltaZ;
+            }
+        }
+        return found ? new BlockPos(targetX, targetY, targetZ) : null;
+    }
+
+    private static double firstBoundary(double start, int block, int step, double delta) {
+        if (Double.isInfinite(delta)) return Double.POSITIVE_INFINITY;
+        return delta * (step > 0 ? block + 1 - start : start - block);
+    }
+
+    private static boolean fitsAt(BlockGetter world, BlockPos.MutableBlockPos pos) {
+        if (fullBlockAt(world, pos)) return false;
+        boolean fits = !fullBlockAt(world, pos.move(Direction.UP));
+        pos.move(Direction.DOWN);
+        return fits;
+    }
+
+    // Uses the collision shape cache every BlockState keeps, so no shape is computed for common blocks
+    private static boolean fullBlockAt(BlockGetter world, BlockPos target){
+        return world.getBlockState(target).isCollisionShapeFullBlock(world, target);
     }
 
     private void oldTeleport(Player player) {
@@ -1,15 +1,13 @@
 package net.satisfy.vinery.effect.normal;
 
 
-import de.cristelknight.doapi.common.util.GeneralUtil;
-import dev.architectury.networking.NetworkManager;
-import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.effect.MobEffectCategory;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.ai.attributes.AttributeMap;
 import net.satisfy.vinery.effect.NormalEffect;
 import net.satisfy.vinery.network.VineryNetwork;
+import net.satisfy.vinery.network.packet.ShaderS2CPacket;
 
 public class TrippyEffect extends NormalEffect {
     public TrippyEffect() {
@@ -20,18 +18,14 @@ public class TrippyEffect extends NormalEffect {
     @Override
     public void removeAttributeModifiers(LivingEntity livingEntity, AttributeMap attributeMap, int i) {
         if(livingEntity instanceof ServerPlayer player){
-            FriendlyByteBuf buf = GeneralUtil.create();
-            buf.writeBoolean(false);
-            NetworkManager.sendToPlayer(player, VineryNetwork.SHADER_S2C, buf);
+            VineryNetwork.send(player, new ShaderS2CPacket(false));
         }
     }
 
     @Override
     public void addAttributeModifiers(LivingEntity livingEntity, AttributeMap attributeMap, int i) {
         if(livingEntity instanceof ServerPlayer player){
-            FriendlyByteBuf buf = GeneralUtil.create();
-            buf.writeBoolean(true);
-            NetworkManager.sendToPlayer(player, VineryNetwork.SHADER_S2C, buf);
+            VineryNetwork.send(player, new ShaderS2CPacket(true));
         }
         super.addAttributeModifiers(livingEntity, attributeMap, i);
     }
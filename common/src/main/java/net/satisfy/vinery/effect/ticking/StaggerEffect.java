@@ -7,8 +7,10 @@ import net.minecraft.world.effect.MobEffectCategory;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.item.Items;
 import net.satisfy.vinery.effect.TickingEffect;
+import net.satisfy.vinery.util.ParticleAggregator;
 
 public class StaggerEffect extends TickingEffect {
+    private static final ItemParticleOption PARTICLE = new ItemParticleOption(ParticleTypes.ITEM, Items.GREEN_DYE.getDefaultInstance());
     private double rotationDirection, motionDirection;
 
     public StaggerEffect() {
@@ -35,7 +37,7 @@ public class StaggerEffect extends TickingEffect {
 
 
         if (livingEntity.level() instanceof ServerLevel serverLevel) {
-            serverLevel.sendParticles(new ItemParticleOption(ParticleTypes.ITEM, Items.GREEN_DYE.getDefaultInstance()),
+            ParticleAggregator.sendParticles(serverLevel, PARTICLE,
                     livingEntity.getX(), livingEntity.getY() + livingEntity.getBbHeight() * 0.8, livingEntity.getZ(),
                     1, 0.0, 0.0, 0.0, 0.0);
         }
@@ -9,6 +9,7 @@ import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.phys.Vec3;
 import net.satisfy.vinery.effect.TickingEffect;
+import net.satisfy.vinery.util.ParticleAggregator;
 
 public class WaterWalkerEffect extends TickingEffect
 {
@@ -28,13 +29,13 @@ public class WaterWalkerEffect extends TickingEffect
                 pLivingEntity.setDeltaMovement(movement.add(0, 0.1, 0));
             } else if (pLivingEntity.level().getFluidState(onPos).is(FluidTags.WATER)) {
                 if (pLivingEntity.level() instanceof ServerLevel level) {
-                    level.sendParticles(ParticleTypes.FALLING_WATER, pos.x(), pos.y() + 0.1D, pos.z(), 10, 0.2, 0.1, 0.2, 1.5);
+                    ParticleAggregator.sendParticles(level, ParticleTypes.FALLING_WATER, pos.x(), pos.y() + 0.1D, pos.z(), 10, 0.2, 0.1, 0.2, 1.5);
                 }
                 pLivingEntity.setDeltaMovement(movement.x(), Math.max(movement.y(), 0D), movement.z());
                 pLivingEntity.setOnGround(true);
             } else if (pLivingEntity.level().getFluidState(futureBlockPos).is(FluidTags.WATER) && movement.y() > -0.8) {
                 if (pLivingEntity.level() instanceof ServerLevel level) {
-                    level.sendParticles(ParticleTypes.FALLING_WATER, pos.x(), pos.y() + 0.1D, pos.z(), 10, 0.2, 0.1, 0.2, 1.5);
+                    ParticleAggregator.sendParticles(level, ParticleTypes.FALLING_WATER, pos.x(), pos.y() + 0.1D, pos.z(), 10, 0.2, 0.1, 0.2, 1.5);
                 }
                 pLivingEntity.setDeltaMovement(movement.x(), Math.max(movement.y(), movement.y() * 0.5), movement.z());
             }
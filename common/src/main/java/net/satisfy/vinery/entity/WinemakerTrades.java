@@ -0,0 +1,77 @@
+package net.satisfy.vinery.entity;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.JsonOps;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.packs.resources.ResourceManager;
+import net.minecraft.server.packs.resources.SimpleJsonResourceReloadListener;
+import net.minecraft.util.ExtraCodecs;
+import net.minecraft.util.RandomSource;
+import net.minecraft.util.profiling.ProfilerFiller;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.npc.VillagerTrades;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.item.trading.MerchantOffer;
+import net.satisfy.vinery.Vinery;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The offers of the {@link WanderingWinemakerEntity}, loaded from {@code data/<namespace>/wandering_winemaker_trades/*.json}.
+ * The offers of all files are compiled once per reload into shared templates, traders only create their
+ * {@link MerchantOffer}s when their offers are first requested.
+ */
+public class WinemakerTrades {
+    private static VillagerTrades.ItemListing[] OFFERS = new VillagerTrades.ItemListing[0];
+
+    public static VillagerTrades.ItemListing[] getOffers() {
+        return OFFERS;
+    }
+
+    public record Offer(Item item, int price, int count, int maxUses, int xp) implements VillagerTrades.ItemListing {
+        public static final Codec<Offer> CODEC = RecordCodecBuilder.create(builder ->
+                builder.group(
+                        BuiltInRegistries.ITEM.byNameCodec().fieldOf("item").forGetter(Offer::item),
+                        ExtraCodecs.POSITIVE_INT.fieldOf("price").forGetter(Offer::price),
+                        ExtraCodecs.POSITIVE_INT.optionalFieldOf("count", 1).forGetter(Offer::count),
+                        ExtraCodecs.POSITIVE_INT.optionalFieldOf("max_uses", 8).forGetter(Offer::maxUses),
+                        ExtraCodecs.NON_NEGATIVE_INT.optionalFieldOf("xp", 1).forGetter(Offer::xp)
+                ).apply(builder, Offer::new)
+        );
+
+        @Override
+        public MerchantOffer getOffer(Entity entity, RandomSource random) {
+            return new MerchantOffer(new ItemStack(Items.EMERALD, price), new ItemStack(item, count), maxUses, xp, 0.05F);
+        }
+    }
+
+    private static final Codec<List<Offer>> FILE_CODEC = Offer.CODEC.listOf().fieldOf("offers").codec();
+
+    public static class Loader extends SimpleJsonResourceReloadListener {
+        private static final Gson GSON = new GsonBuilder().create();
+
+        public Loader() {
+            super(GSON, "wandering_winemaker_trades");
+        }
+
+        @Override
+        protected void apply(Map<ResourceLocation, JsonElement> map, ResourceManager resourceManager, ProfilerFiller profiler) {
+            List<Offer> offers = new ArrayList<>();
+            map.entrySet().stream().sorted(Map.Entry.comparingByKey(Comparator.naturalOrder())).forEach(entry ->
+                    FILE_CODEC.parse(JsonOps.INSTANCE, entry.getValue())
+                            .resultOrPartial(error -> Vinery.LOGGER.error("Couldn't parse wandering winemaker trades {}: {}", entry.getKey(), error))
+                            .ifPresent(offers::addAll));
+            OFFERS = offers.toArray(VillagerTrades.ItemListing[]::new);
+        }
+    }
+}
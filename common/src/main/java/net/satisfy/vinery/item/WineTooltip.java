@@ -0,0 +1,123 @@
+package net.satisfy.vinery.item;
+
+import com.google.common.collect.ImmutableList;
+import com.mojang.datafixers.util.Pair;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import net.minecraft.ChatFormatting;
+import net.minecraft.network.chat.Component;
+import net.minecraft.network.chat.MutableComponent;
+import net.minecraft.world.effect.MobEffect;
+import net.minecraft.world.effect.MobEffectInstance;
+import net.minecraft.world.effect.MobEffectUtil;
+import net.minecraft.world.entity.ai.attributes.Attribute;
+import net.minecraft.world.entity.ai.attributes.AttributeModifier;
+import net.minecraft.world.food.FoodProperties;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.Level;
+import net.satisfy.vinery.config.ConfigSnapshot;
+import net.satisfy.vinery.util.WineYears;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The tooltip of a {@link DrinkBlockItem}, built once per item. Effect names, durations and attribute modifiers never
+ * change, only the potency and the year of production depend on the stack and the current year.
+ * All lines are translatable components, so they are resolved for the current language when rendered.
+ */
+class WineTooltip {
+    private final List<EffectLine> effectLines;
+    private final List<Component> modifierLines;
+    private final Int2ObjectOpenHashMap<List<Component>> effectLinesByPotency = new Int2ObjectOpenHashMap<>();
+    private final Int2ObjectOpenHashMap<Component> yearLines = new Int2ObjectOpenHashMap<>();
+    private List<Component> effectLinesWithoutPotency;
+    private int cachedYear = Integer.MIN_VALUE;
+    private ConfigSnapshot cachedConfig;
+
+    WineTooltip(@Nullable FoodProperties food) {
+        ImmutableList.Builder<EffectLine> effects = ImmutableList.builder();
+        ImmutableList.Builder<Component> modifiers = ImmutableList.builder();
+        if (food != null) {
+            for (Pair<MobEffectInstance, Float> pair : food.getEffects()) {
+                MobEffectInstance instance = pair.getFirst();
+                MobEffect effect = instance.getEffect();
+                Component duration = instance.getDuration() > 20 ? MobEffectUtil.formatDuration(instance, pair.getSecond()) : null;
+                effects.add(new EffectLine(Component.translatable(instance.getDescriptionId()), duration, effect.getCategory().getTooltipFormatting()));
+
+                for (Map.Entry<Attribute, AttributeModifier> entry : effect.getAttributeModifiers().entrySet()) {
+                    AttributeModifier modifier = entry.getValue();
+                    Component line = modifierLine(entry.getKey(), modifier.getOperation(), effect.getAttributeModifierValue(instance.getAmplifier(), modifier));
+                    if (line != null) modifiers.add(line);
+                }
+            }
+        }
+        this.effectLines = effects.build();
+        List<Component> modifierLines = modifiers.build();
+        this.modifierLines = modifierLines.isEmpty() ? modifierLines : ImmutableList.<Component>builder()
+                .add(Component.empty())
+                .add(Component.translatable("potion.whenDrank").withStyle(ChatFormatting.DARK_PURPLE))
+                .addAll(modifierLines)
+                .build();
+    }
+
+    void appendTo(ItemStack stack, @Nullable Level world, List<Component> tooltip) {
+        if (effectLines.isEmpty()) {
+            tooltip.add(Component.translatable("effect.none").withStyle(ChatFormatting.GRAY));
+        } else if (world == null) {
+            if (effectLinesWithoutPotency == null) effectLinesWithoutPotency = buildEffectLines(-1);
+            tooltip.addAll(effectLinesWithoutPotency);
+        } else {
+            checkYear(world);
+            tooltip.addAll(effectLinesByPotency.computeIfAbsent(WineYears.getEffectLevel(stack, world), this::buildEffectLines));
+        }
+        tooltip.addAll(modifierLines);
+        tooltip.add(Component.empty());
+
+        int wineYear = WineYears.getWineYear(stack);
+        if (wineYear == WineYears.UNSTAMPED) wineYear = WineYears.getYear(world);
+        tooltip.add(yearLines.computeIfAbsent(wineYear, year -> Component.translatable("tooltip.vinery.year").withStyle(ChatFormatting.WHITE).append(Component.nullToEmpty(" " + year))));
+    }
+
+    // The potency depends on the current year and on the years per effect level of the config
+    private void checkYear(Level world) {
+        int year = WineYears.getYear(world);
+        ConfigSnapshot config = ConfigSnapshot.get();
+        if (year != cachedYear || config != cachedConfig) {
+            cachedYear = year;
+            cachedConfig = config;
+            effectLinesByPotency.clear();
+        }
+    }
+
+    private List<Component> buildEffectLines(int potency) {
+        ImmutableList.Builder<Component> lines = ImmutableList.builder();
+        for (EffectLine line : effectLines) {
+            MutableComponent text = line.name().copy();
+            if (potency >= 0) {
+                text = Component.translatable("potion.withAmplifier", text, Component.translatable("potion.potency." + potency));
+            }
+            if (line.duration() != null) {
+                text = Component.translatable("potion.withDuration", text, line.duration());
+            }
+            lines.add(text.withStyle(line.formatting()));
+        }
+        return lines.build();
+    }
+
+    @Nullable
+    private static Component modifierLine(Attribute attribute, AttributeModifier.Operation operation, double amount) {
+        double shown = operation != AttributeModifier.Operation.MULTIPLY_BASE && operation != AttributeModifier.Operation.MULTIPLY_TOTAL ? amount : amount * 100.0;
+        if (amount > 0.0) {
+            return Component.translatable("attribute.modifier.plus." + operation.toValue(), ItemStack.ATTRIBUTE_MODIFIER_FORMAT.format(shown), Component.translatable(attribute.getDescriptionId()))
+                    .withStyle(ChatFormatting.BLUE);
+        } else if (amount < 0.0) {
+            return Component.translatable("attribute.modifier.take." + operation.toValue(), ItemStack.ATTRIBUTE_MODIFIER_FORMAT.format(-shown), Component.translatable(attribute.getDescriptionId()))
+                    .withStyle(ChatFormatting.RED);
+        }
+        return null;
+    }
+
+    private record EffectLine(Component name, @Nullable Component duration, ChatFormatting formatting) {
+    }
+}
@@ -1,6 +1,5 @@
 package net.satisfy.vinery.mixin;
 
-import de.cristelknight.doapi.common.util.GeneralUtil;
 import net.minecraft.util.RandomSource;
 import net.minecraft.world.InteractionResult;
 import net.minecraft.world.entity.EquipmentSlot;
@@ -8,7 +7,7 @@ import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.BoneMealItem;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.context.UseOnContext;
-import net.satisfy.vinery.config.VineryConfig;
+import net.satisfy.vinery.config.ConfigSnapshot;
 import net.satisfy.vinery.item.WinemakerBootsItem;
 import net.satisfy.vinery.item.WinemakerChestItem;
 import net.satisfy.vinery.item.WinemakerHatItem;
@@ -23,10 +22,10 @@ public abstract class BoneMealItemMixin {
 	
 	@Inject(method = "useOn", at = @At("RETURN"))
 	public void useOnBlock(UseOnContext context, CallbackInfoReturnable<InteractionResult> cir) {
-		VineryConfig config = VineryConfig.DEFAULT.getConfig();
+		ConfigSnapshot config = ConfigSnapshot.get();
 		RandomSource random = context.getLevel().getRandom();
 
-		if (config.enableWineMakerSetBonus() && random.nextFloat() < GeneralUtil.getInPercent(config.probabilityToKeepBoneMeal()) && cir.getReturnValue() == InteractionResult.CONSUME) {
+		if (config.config().enableWineMakerSetBonus() && random.nextFloat() < config.keepBoneMealChance() && cir.getReturnValue() == InteractionResult.CONSUME) {
 			Player player = context.getPlayer();
 			if (player != null) {
 				ItemStack helmet = player.getItemBySlot(EquipmentSlot.HEAD);
@@ -38,8 +37,8 @@ public abstract class BoneMealItemMixin {
 						leggings.getItem() instanceof WinemakerLegsItem &&
 						boots.getItem() instanceof WinemakerBootsItem) {
 
-					if(random.nextFloat() < GeneralUtil.getInPercent(config.probabilityForDamage())){
-						int damage = config.damagePerUse();
+					if(random.nextFloat() < config.armorDamageChance()){
+						int damage = config.config().damagePerUse();
 						helmet.hurtAndBreak(damage, player, (p) -> p.broadcastBreakEvent(EquipmentSlot.HEAD));
 						chestplate.hurtAndBreak(damage, player, (p) -> p.broadcastBreakEvent(EquipmentSlot.CHEST));
 						leggings.hurtAndBreak(damage, player, (p) -> p.broadcastBreakEvent(EquipmentSlot.LEGS));
@@ -0,0 +1,42 @@
+package net.satisfy.vinery.mixin;
+
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.chunk.PalettedContainer;
+import net.satisfy.vinery.world.DirtSlabSection;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.Unique;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+@Mixin(LevelChunkSection.class)
+public abstract class LevelChunkSectionMixin implements DirtSlabSection {
+    @Shadow @Final private PalettedContainer<BlockState> states;
+
+    @Unique
+    private int vinery$dirtSlabs;
+
+    @Override
+    public boolean vinery$hasDirtSlabs() {
+        return vinery$dirtSlabs > 0;
+    }
+
+    @Inject(method = "recalcBlockCounts", at = @At("TAIL"))
+    private void countDirtSlabs(CallbackInfo ci) {
+        int[] dirtSlabs = new int[1];
+        states.count((state, count) -> {
+            if (DirtSlabSection.isDirtSlab(state)) dirtSlabs[0] += count;
+        });
+        vinery$dirtSlabs = dirtSlabs[0];
+    }
+
+    @Inject(method = "setBlockState(IIILnet/minecraft/world/level/block/state/BlockState;Z)Lnet/minecraft/world/level/block/state/BlockState;", at = @At("RETURN"))
+    private void trackDirtSlabs(int x, int y, int z, BlockState state, boolean lock, CallbackInfoReturnable<BlockState> cir) {
+        if (DirtSlabSection.isDirtSlab(cir.getReturnValue())) vinery$dirtSlabs--;
+        if (DirtSlabSection.isDirtSlab(state)) vinery$dirtSlabs++;
+    }
+}
@@ -0,0 +1,33 @@
+package net.satisfy.vinery.mixin;
+
+import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
+import com.llamalad7.mixinextras.injector.wrapoperation.WrapOperation;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.world.effect.MobEffect;
+import net.minecraft.world.effect.MobEffectInstance;
+import net.minecraft.world.entity.LivingEntity;
+import net.satisfy.vinery.util.jfr.EffectTickEvent;
+import net.satisfy.vinery.util.jfr.VineryEvents;
+import net.satisfy.vinery.util.profiling.VineryProfiler;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+
+@Mixin(MobEffectInstance.class)
+public class MobEffectInstanceMixin {
+
+    @WrapOperation(method = "applyEffect", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/effect/MobEffect;applyEffectTick(Lnet/minecraft/world/entity/LivingEntity;I)V"))
+    private void recordEffectTick(MobEffect effect, LivingEntity entity, int amplifier, Operation<Void> original) {
+        if (!VineryProfiler.isRecording() || entity.level().isClientSide() || !VineryEvents.isVinery(effect.getClass())) {
+            original.call(effect, entity, amplifier);
+            return;
+        }
+        long start = System.nanoTime();
+        EffectTickEvent event = new EffectTickEvent();
+        event.begin();
+        original.call(effect, entity, amplifier);
+        event.effect = String.valueOf(BuiltInRegistries.MOB_EFFECT.getKey(effect));
+        event.amplifier = amplifier;
+        event.finish(entity.blockPosition(), entity.isDeadOrDying() ? "killed" : "applied");
+        VineryProfiler.record(VineryProfiler.Subsystem.EFFECTS, start, entity.level(), entity.blockPosition());
+    }
+}
@@ -0,0 +1,32 @@
+package net.satisfy.vinery.mixin;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Holder;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.entity.ai.village.poi.PoiManager;
+import net.minecraft.world.entity.ai.village.poi.PoiType;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.satisfy.vinery.world.MeetingPointCache;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+@Mixin(PoiManager.class)
+public class PoiManagerMixin {
+
+    @Inject(method = "add", at = @At("TAIL"))
+    private void onAdd(BlockPos pos, Holder<PoiType> type, CallbackInfo ci) {
+        MeetingPointCache.onAdd((PoiManager) (Object) this, pos, type);
+    }
+
+    @Inject(method = "remove", at = @At("HEAD"))
+    private void onRemove(BlockPos pos, CallbackInfo ci) {
+        MeetingPointCache.onRemove((PoiManager) (Object) this, pos);
+    }
+
+    @Inject(method = "checkConsistencyWithBlocks", at = @At("HEAD"))
+    private void onCheckConsistency(SectionPos sectionPos, LevelChunkSection section, CallbackInfo ci) {
+        MeetingPointCache.onSectionRefresh((PoiManager) (Object) this, sectionPos);
+    }
+}
@@ -0,0 +1,32 @@
+package net.satisfy.vinery.mixin;
+
+import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
+import com.llamalad7.mixinextras.injector.wrapoperation.WrapOperation;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.block.state.BlockState;
+import net.satisfy.vinery.util.jfr.RandomTickEvent;
+import net.satisfy.vinery.util.jfr.VineryEvents;
+import net.satisfy.vinery.util.profiling.VineryProfiler;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+
+@Mixin(ServerLevel.class)
+public class ServerLevelMixin {
+
+    @WrapOperation(method = "tickChunk", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/level/block/state/BlockState;randomTick(Lnet/minecraft/server/level/ServerLevel;Lnet/minecraft/core/BlockPos;Lnet/minecraft/util/RandomSource;)V"))
+    private void recordRandomTick(BlockState state, ServerLevel level, BlockPos pos, RandomSource random, Operation<Void> original) {
+        if (!VineryProfiler.isRecording() || !VineryEvents.isVinery(state.getBlock().getClass())) {
+            original.call(state, level, pos, random);
+            return;
+        }
+        long start = System.nanoTime();
+        RandomTickEvent event = new RandomTickEvent();
+        event.begin();
+        original.call(state, level, pos, random);
+        event.block = state.getBlock().getClass();
+        event.finish(pos, "ticked");
+        VineryProfiler.record(VineryProfiler.Subsystem.VINEYARD_GROWTH, start, level, pos);
+    }
+}
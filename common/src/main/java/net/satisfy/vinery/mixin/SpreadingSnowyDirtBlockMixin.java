@@ -6,6 +6,7 @@ import net.minecraft.util.RandomSource;
 import net.minecraft.world.level.block.SpreadingSnowyDirtBlock;
 import net.minecraft.world.level.block.state.BlockState;
 import net.satisfy.vinery.block.SpreadableGrassSlabBlock;
+import net.satisfy.vinery.world.DirtSlabSection;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
@@ -18,7 +19,10 @@ public class SpreadingSnowyDirtBlockMixin {
 
     @Inject(method = "randomTick", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/level/block/state/BlockState;is(Lnet/minecraft/world/level/block/Block;)Z"), locals = LocalCapture.CAPTURE_FAILHARD)
     public void onTick(BlockState state, ServerLevel world, BlockPos pos, RandomSource random, CallbackInfo ci, BlockState defaultState, int j, BlockPos spreadPos) {
-        SpreadableGrassSlabBlock.trySpread(world, spreadPos);
+        // Vanilla spreads onto dirt itself, the hook is only needed where there are dirt slabs
+        if (DirtSlabSection.mayContainDirtSlab(world, spreadPos)) {
+            SpreadableGrassSlabBlock.trySpread(world, spreadPos);
+        }
     }
 }
 
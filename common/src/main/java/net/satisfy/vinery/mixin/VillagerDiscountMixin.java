@@ -1,30 +1,30 @@
 package net.satisfy.vinery.mixin;
 
+import net.minecraft.world.effect.MobEffectInstance;
 import net.minecraft.world.entity.npc.Villager;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.trading.MerchantOffer;
 import net.satisfy.vinery.registry.MobEffectRegistry;
+import net.satisfy.vinery.util.TradingDiscount;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 
-import java.util.Objects;
-
 @Mixin(Villager.class)
 public class VillagerDiscountMixin {
 
     @Inject(method = "updateSpecialPrices", at = @At("HEAD"))
     private void applyHasteDiscount(Player player, CallbackInfo ci) {
-        if (player.hasEffect(MobEffectRegistry.TRADING_EFFECT.get())) {
+        MobEffectInstance effect = player.getEffect(MobEffectRegistry.TRADING_EFFECT.get());
+        if (effect != null) {
             Villager villager = (Villager) (Object) this;
+            float discountForEffect = TradingDiscount.getDiscount(effect.getAmplifier());
+            int minimum = TradingDiscount.getMinimum();
             for (MerchantOffer offer : villager.getOffers()) {
-                int discountLevel = Objects.requireNonNull(player.getEffect(MobEffectRegistry.TRADING_EFFECT.get())).getAmplifier();
-                double discountForEffect = 0.1 * (discountLevel + 1);
                 int discount = (int) Math.floor(discountForEffect * offer.getBaseCostA().getCount());
-
-                offer.addToSpecialPriceDiff(-Math.max(discount, 1));
+                offer.addToSpecialPriceDiff(-Math.max(discount, minimum));
             }
         }
     }
-}
\ No newline at end of file
+}
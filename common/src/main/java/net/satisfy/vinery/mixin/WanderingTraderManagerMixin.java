@@ -4,8 +4,6 @@ import net.minecraft.core.BlockPos;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.MobSpawnType;
-import net.minecraft.world.entity.ai.village.poi.PoiManager;
-import net.minecraft.world.entity.ai.village.poi.PoiTypes;
 import net.minecraft.world.entity.npc.WanderingTrader;
 import net.minecraft.world.entity.npc.WanderingTraderSpawner;
 import net.minecraft.world.level.BlockGetter;
@@ -13,8 +11,12 @@ import net.minecraft.world.level.CustomSpawner;
 import net.minecraft.world.level.LevelReader;
 import net.minecraft.world.level.biome.Biomes;
 import net.minecraft.world.level.storage.ServerLevelData;
+import net.satisfy.vinery.config.ConfigSnapshot;
+import net.satisfy.vinery.config.VineryConfig;
 import net.satisfy.vinery.entity.TraderMuleEntity;
 import net.satisfy.vinery.registry.EntityRegistry;
+import net.satisfy.vinery.util.metrics.VineryMetrics;
+import net.satisfy.vinery.world.MeetingPointCache;
 import org.jetbrains.annotations.Nullable;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
@@ -23,8 +25,6 @@ import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 
-import java.util.Optional;
-
 @Mixin(WanderingTraderSpawner.class)
 public abstract class WanderingTraderManagerMixin implements CustomSpawner {
 	@Shadow @Nullable protected abstract BlockPos findSpawnPositionNear(LevelReader world, BlockPos pos, int range);
@@ -38,12 +38,17 @@ public abstract class WanderingTraderManagerMixin implements CustomSpawner {
 		if (world.random.nextBoolean()) {
 			ServerPlayer playerEntity = world.getRandomPlayer();
 			if (playerEntity != null) {
+				VineryConfig config = ConfigSnapshot.get().config();
 				BlockPos blockPos = playerEntity.blockPosition();
-				PoiManager pointOfInterestStorage = world.getPoiManager();
-				Optional<BlockPos> optional = pointOfInterestStorage.find(type -> type.is(PoiTypes.MEETING), pos -> true, blockPos, 48, PoiManager.Occupancy.ANY);
-				BlockPos blockPos2 = optional.orElse(blockPos);
-				BlockPos blockPos3 = this.findSpawnPositionNear(world, blockPos2, 48);
-				if (blockPos3 != null && this.hasEnoughSpace(world, blockPos3)) {
+				BlockPos meetingPoint = MeetingPointCache.get(world.getPoiManager()).findClosest(blockPos, config.winemakerSpawnRadius());
+				BlockPos blockPos2 = meetingPoint != null ? meetingPoint : blockPos;
+				BlockPos blockPos3 = null;
+				for (int attempt = 0; attempt < config.winemakerSpawnAttempts() && blockPos3 == null; attempt++) {
+					if (VineryMetrics.ENABLED) VineryMetrics.WINEMAKER_SPAWN_ATTEMPTS.increment();
+					BlockPos candidate = this.findSpawnPositionNear(world, blockPos2, config.winemakerSpawnRadius());
+					if (candidate != null && this.hasEnoughSpace(world, candidate)) blockPos3 = candidate;
+				}
+				if (blockPos3 != null) {
 					if (!world.getBiome(blockPos3).is(Biomes.THE_VOID)) {
 						WanderingTrader wanderingTraderEntity = EntityRegistry.WANDERING_WINEMAKER.get().spawn(world, blockPos3, MobSpawnType.EVENT);
 						if (wanderingTraderEntity != null) {
@@ -60,6 +65,7 @@ public abstract class WanderingTraderManagerMixin implements CustomSpawner {
 							wanderingTraderEntity.setDespawnDelay(48000);
 							wanderingTraderEntity.setWanderTarget(blockPos2);
 							wanderingTraderEntity.restrictTo(blockPos2, 16);
+							if (VineryMetrics.ENABLED) VineryMetrics.WINEMAKER_SPAWNS.increment();
 							cir.setReturnValue(true);
 						}
 					}
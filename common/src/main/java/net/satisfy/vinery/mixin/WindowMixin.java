@@ -12,7 +12,6 @@ public class WindowMixin {
 
     @Inject(at = @At("TAIL"), method = "onFramebufferResize")
     private void updateShaderSize(CallbackInfo ci) {
-        if(ShaderUtils.enabled)
-            ShaderUtils.shader.resize(ShaderUtils.client.getWindow().getWidth(), ShaderUtils.client.getWindow().getHeight());
+        ShaderUtils.resizeActive(ShaderUtils.client.getWindow().getWidth(), ShaderUtils.client.getWindow().getHeight());
     }
 }
\ No newline at end of file
@@ -0,0 +1,105 @@
+package net.satisfy.vinery.network;
+
+import de.cristelknight.doapi.common.util.GeneralUtil;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerPlayer;
+import net.satisfy.vinery.config.ConfigSnapshot;
+import net.satisfy.vinery.config.VineryConfig;
+import net.satisfy.vinery.network.packet.ConfigHashC2SPacket;
+import net.satisfy.vinery.network.packet.ConfigSyncS2CPacket;
+
+import java.util.zip.CRC32;
+
+/**
+ * Sends the effective config of the server to its clients, so that client side predictions (calendar, wine tooltips)
+ * use the same values as the server. Ints are written as var ints and booleans as bit flags.
+ * <p>
+ * A joining client first sends the CRC32 of the payload it kept from its last connection in a
+ * {@link ConfigHashC2SPacket}. If it matches, the server only sends the hash back and the payload is skipped. After a
+ * reload the payload goes to every player.
+ */
+public class ConfigSync {
+    private static final int FLAG_WINE_MAKER_SET_BONUS = 1;
+    private static final int FLAG_DESTROY_BLOCKS = 2;
+
+    private static final byte[] CACHED = new byte[0];
+
+    private static ConfigSnapshot encodedFor;
+    private static byte[] payload;
+    private static int hash;
+
+    public static void sendTo(ServerPlayer player, boolean cached, int cachedHash) {
+        ConfigSyncS2CPacket packet = createPacket();
+        VineryNetwork.send(player, cached && cachedHash == packet.hash() ? new ConfigSyncS2CPacket(packet.hash(), CACHED) : packet);
+    }
+
+    public static void sendToAll(MinecraftServer server) {
+        ConfigSyncS2CPacket packet = createPacket();
+        for (ServerPlayer player : server.getPlayerList().getPlayers()) {
+            VineryNetwork.send(player, packet);
+        }
+    }
+
+    private static ConfigSyncS2CPacket createPacket() {
+        ConfigSnapshot snapshot = ConfigSnapshot.get();
+        if (snapshot != encodedFor) {
+            FriendlyByteBuf buf = GeneralUtil.create();
+            write(buf, snapshot.config());
+            payload = new byte[buf.readableBytes()];
+            buf.readBytes(payload);
+            buf.release();
+
+            CRC32 crc = new CRC32();
+            crc.update(payload);
+            hash = (int) crc.getValue();
+            encodedFor = snapshot;
+        }
+        return new ConfigSyncS2CPacket(hash, payload);
+    }
+
+    public static void write(FriendlyByteBuf buf, VineryConfig config) {
+        int flags = 0;
+        if (config.enableWineMakerSetBonus()) flags |= FLAG_WINE_MAKER_SET_BONUS;
+        if (config.destroyBlocks()) flags |= FLAG_DESTROY_BLOCKS;
+        buf.writeByte(flags);
+        buf.writeVarInt(config.wineTraderChance());
+        buf.writeVarInt(config.yearLengthInDays());
+        buf.writeVarInt(config.yearsPerEffectLevel());
+        buf.writeVarInt(config.damagePerUse());
+        buf.writeVarInt(config.probabilityForDamage());
+        buf.writeVarInt(config.probabilityToKeepBoneMeal());
+        buf.writeVarInt(config.fermentationBarrelTime());
+        buf.writeVarInt(config.grapeGrowthSpeed());
+        buf.writeVarInt(config.wineEffectDuration());
+        buf.writeVarInt(config.wineEffectStrength());
+        buf.writeVarInt(config.particleBudgetPerPlayer());
+        buf.writeVarInt(config.teleportRange());
+        buf.writeVarInt(config.winemakerSpawnRadius());
+        buf.writeVarInt(config.winemakerSpawnAttempts());
+    }
+
+    public static VineryConfig read(FriendlyByteBuf buf) {
+        int flags = buf.readByte();
+        int wineTraderChance = buf.readVarInt();
+        int yearLengthInDays = buf.readVarInt();
+        int yearsPerEffectLevel = buf.readVarInt();
+        int damagePerUse = buf.readVarInt();
+        int probabilityForDamage = buf.readVarInt();
+        int probabilityToKeepBoneMeal = buf.readVarInt();
+        int fermentationBarrelTime = buf.readVarInt();
+        int grapeGrowthSpeed = buf.readVarInt();
+        int wineEffectDuration = buf.readVarInt();
+        int wineEffectStrength = buf.readVarInt();
+        int particleBudgetPerPlayer = buf.readVarInt();
+        int teleportRange = buf.readVarInt();
+        int winemakerSpawnRadius = buf.readVarInt();
+        int winemakerSpawnAttempts = buf.readVarInt();
+        return new VineryConfig(wineTraderChance, yearLengthInDays, yearsPerEffectLevel,
+                (flags & FLAG_WINE_MAKER_SET_BONUS) != 0, damagePerUse, probabilityForDamage,
+                probabilityToKeepBoneMeal, fermentationBarrelTime, grapeGrowthSpeed,
+                wineEffectDuration, wineEffectStrength, (flags & FLAG_DESTROY_BLOCKS) != 0,
+                particleBudgetPerPlayer, teleportRange, winemakerSpawnRadius,
+                winemakerSpawnAttempts).validate();
+    }
+}
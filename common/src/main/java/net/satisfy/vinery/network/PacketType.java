@@ -0,0 +1,13 @@
+package net.satisfy.vinery.network;
+
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.resources.ResourceLocation;
+
+import java.util.function.Function;
+
+/**
+ * A registered kind of {@link VineryPacket}. The id is the registration index, so both sides agree on it as long as
+ * all types are registered in the same order from {@link VineryNetwork}.
+ */
+public record PacketType<T extends VineryPacket>(int id, ResourceLocation name, Function<FriendlyByteBuf, T> decoder) {
+}
@@ -1,15 +1,144 @@
 package net.satisfy.vinery.network;
 
 
+import de.cristelknight.doapi.common.util.GeneralUtil;
 import dev.architectury.networking.NetworkManager;
+import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerPlayer;
+import net.satisfy.vinery.Vinery;
+import net.satisfy.vinery.network.packet.ConfigHashC2SPacket;
+import net.satisfy.vinery.network.packet.ConfigSyncS2CPacket;
+import net.satisfy.vinery.network.packet.FillRecipeC2SPacket;
+import net.satisfy.vinery.network.packet.ParticleS2CPacket;
 import net.satisfy.vinery.network.packet.ShaderS2CPacket;
 import net.satisfy.vinery.util.VineryIdentifier;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * All vinery messages to a player are collected during a server tick and sent as one payload on a single channel
+ * at the end of the tick. The client decodes the batch on the network thread and handles it on the main thread.
+ * Messages to the server are rare player actions and are sent right away, one per payload.
+ */
 public class VineryNetwork {
-    public static final ResourceLocation SHADER_S2C = new VineryIdentifier("shader");
+    public static final ResourceLocation BATCH_S2C = new VineryIdentifier("batch");
+    public static final ResourceLocation C2S = new VineryIdentifier("c2s");
+
+    private static final List<PacketType<?>> TYPES = new ArrayList<>();
+    private static final List<Consumer<?>> HANDLERS = new ArrayList<>();
+    private static final List<BiConsumer<?, ServerPlayer>> SERVER_HANDLERS = new ArrayList<>();
+    private static final Map<ServerPlayer, List<VineryPacket>> PENDING = new HashMap<>();
+
+    public static final PacketType<ShaderS2CPacket> SHADER = register("shader", ShaderS2CPacket::read);
+    public static final PacketType<ConfigSyncS2CPacket> CONFIG = register("config", ConfigSyncS2CPacket::read);
+    public static final PacketType<ParticleS2CPacket> PARTICLES = register("particles", ParticleS2CPacket::read);
+    public static final PacketType<FillRecipeC2SPacket> FILL_RECIPE = register("fill_recipe", FillRecipeC2SPacket::read);
+    public static final PacketType<ConfigHashC2SPacket> CONFIG_HASH = register("config_hash", ConfigHashC2SPacket::read);
+
+    private static <T extends VineryPacket> PacketType<T> register(String name, Function<FriendlyByteBuf, T> decoder) {
+        PacketType<T> type = new PacketType<>(TYPES.size(), new VineryIdentifier(name), decoder);
+        TYPES.add(type);
+        HANDLERS.add(null);
+        SERVER_HANDLERS.add(null);
+        return type;
+    }
+
+    public static void registerC2SPackets() {
+        registerServerHandler(FILL_RECIPE, FillRecipeC2SPacket::handle);
+        registerServerHandler(CONFIG_HASH, ConfigHashC2SPacket::handle);
+        NetworkManager.registerReceiver(NetworkManager.Side.C2S, C2S, VineryNetwork::receiveFromClient);
+    }
+
+    private static <T extends VineryPacket> void registerServerHandler(PacketType<T> type, BiConsumer<T, ServerPlayer> handler) {
+        SERVER_HANDLERS.set(type.id(), handler);
+    }
 
     public static void registerS2CPackets() {
-        NetworkManager.registerReceiver(NetworkManager.Side.S2C, SHADER_S2C, new ShaderS2CPacket());
+        registerHandler(SHADER, ShaderS2CPacket::handle);
+        registerHandler(CONFIG, ConfigSyncS2CPacket::handle);
+        registerHandler(PARTICLES, ParticleS2CPacket::handle);
+        NetworkManager.registerReceiver(NetworkManager.Side.S2C, BATCH_S2C, VineryNetwork::receive);
+    }
+
+    private static <T extends VineryPacket> void registerHandler(PacketType<T> type, Consumer<T> handler) {
+        HANDLERS.set(type.id(), handler);
+    }
+
+    /**
+     * Queues a message for the player, it is sent with all other vinery messages at the end of the tick.
+     * Must be called on the server thread.
+     */
+    public static void send(ServerPlayer player, VineryPacket packet) {
+        PENDING.computeIfAbsent(player, p -> new ArrayList<>()).add(packet);
+    }
+
+    public static void flush(MinecraftServer server) {
+        if (PENDING.isEmpty()) return;
+        for (Map.Entry<ServerPlayer, List<VineryPacket>> entry : PENDING.entrySet()) {
+            ServerPlayer player = entry.getKey();
+            if (player.hasDisconnected()) continue;
+            List<VineryPacket> packets = entry.getValue();
+            FriendlyByteBuf buf = GeneralUtil.create();
+            buf.writeVarInt(packets.size());
+            for (VineryPacket packet : packets) {
+                buf.writeVarInt(packet.type().id());
+                packet.write(buf);
+            }
+            NetworkManager.sendToPlayer(player, BATCH_S2C, buf);
+        }
+        PENDING.clear();
+    }
+
+    public static void sendToServer(VineryPacket packet) {
+        FriendlyByteBuf buf = GeneralUtil.create();
+        buf.writeVarInt(packet.type().id());
+        packet.write(buf);
+        NetworkManager.sendToServer(C2S, buf);
+    }
+
+    private static void receiveFromClient(FriendlyByteBuf buf, NetworkManager.PacketContext context) {
+        int id = buf.readVarInt();
+        if (id < 0 || id >= TYPES.size() || SERVER_HANDLERS.get(id) == null) {
+            Vinery.LOGGER.warn("Received unknown vinery packet {} from {}", id, context.getPlayer().getName().getString());
+            return;
+        }
+        VineryPacket packet = TYPES.get(id).decoder().apply(buf);
+        context.queue(() -> {
+            if (context.getPlayer() instanceof ServerPlayer player) handleOnServer(packet, player);
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends VineryPacket> void handleOnServer(T packet, ServerPlayer player) {
+        ((BiConsumer<T, ServerPlayer>) SERVER_HANDLERS.get(packet.type().id())).accept(packet, player);
+    }
+
+    private static void receive(FriendlyByteBuf buf, NetworkManager.PacketContext context) {
+        int count = buf.readVarInt();
+        List<VineryPacket> packets = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int id = buf.readVarInt();
+            if (id < 0 || id >= TYPES.size()) {
+                // The rest of the batch can't be read without knowing the size of this message
+                Vinery.LOGGER.warn("Received unknown vinery packet {}, dropping the remaining {} messages", id, count - i);
+                break;
+            }
+            packets.add(TYPES.get(id).decoder().apply(buf));
+        }
+        context.queue(() -> packets.forEach(VineryNetwork::handle));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends VineryPacket> void handle(T packet) {
+        Consumer<T> handler = (Consumer<T>) HANDLERS.get(packet.type().id());
+        if (handler != null) handler.accept(packet);
     }
 }
@@ -0,0 +1,14 @@
+package net.satisfy.vinery.network;
+
+import net.minecraft.network.FriendlyByteBuf;
+
+/**
+ * A vinery message. Messages to a client are queued with {@link VineryNetwork#send} and written into the batch of
+ * their player, messages to the server go out with {@link VineryNetwork#sendToServer}. Both are read back with the
+ * decoder of their {@link PacketType}.
+ */
+public interface VineryPacket {
+    PacketType<?> type();
+
+    void write(FriendlyByteBuf buf);
+}
@@ -0,0 +1,34 @@
+package net.satisfy.vinery.network.packet;
+
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.server.level.ServerPlayer;
+import net.satisfy.vinery.network.ConfigSync;
+import net.satisfy.vinery.network.PacketType;
+import net.satisfy.vinery.network.VineryNetwork;
+import net.satisfy.vinery.network.VineryPacket;
+
+/**
+ * Sent by a client after joining, with the hash of the server config it kept from its last connection (if any). The
+ * server answers with its config, or only with the hash when the client already has it. See {@link ConfigSync}.
+ */
+public record ConfigHashC2SPacket(boolean cached, int hash) implements VineryPacket {
+
+    public static ConfigHashC2SPacket read(FriendlyByteBuf buf) {
+        return new ConfigHashC2SPacket(buf.readBoolean(), buf.readInt());
+    }
+
+    @Override
+    public void write(FriendlyByteBuf buf) {
+        buf.writeBoolean(cached);
+        buf.writeInt(hash);
+    }
+
+    @Override
+    public PacketType<?> type() {
+        return VineryNetwork.CONFIG_HASH;
+    }
+
+    public static void handle(ConfigHashC2SPacket packet, ServerPlayer player) {
+        ConfigSync.sendTo(player, packet.cached(), packet.hash());
+    }
+}
@@ -0,0 +1,78 @@
+package net.satisfy.vinery.network.packet;
+
+import io.netty.buffer.Unpooled;
+import net.minecraft.client.Minecraft;
+import net.minecraft.network.FriendlyByteBuf;
+import net.satisfy.vinery.config.ConfigSnapshot;
+import net.satisfy.vinery.config.VineryConfig;
+import net.satisfy.vinery.network.ConfigSync;
+import net.satisfy.vinery.network.PacketType;
+import net.satisfy.vinery.network.VineryNetwork;
+import net.satisfy.vinery.network.VineryPacket;
+
+/**
+ * The encoded config of the server, see {@link ConfigSync}.
+ */
+public record ConfigSyncS2CPacket(int hash, byte[] payload) implements VineryPacket {
+    private static boolean synced;
+    private static int lastHash;
+    private static VineryConfig lastConfig;
+
+    public static ConfigSyncS2CPacket read(FriendlyByteBuf buf) {
+        return new ConfigSyncS2CPacket(buf.readInt(), buf.readByteArray());
+    }
+
+    @Override
+    public void write(FriendlyByteBuf buf) {
+        buf.writeInt(hash);
+        buf.writeByteArray(payload);
+    }
+
+    @Override
+    public PacketType<?> type() {
+        return VineryNetwork.CONFIG;
+    }
+
+    public static void handle(ConfigSyncS2CPacket packet) {
+        // The integrated server shares the snapshot with the client
+        if (Minecraft.getInstance().isLocalServer()) return;
+        // The last payload is kept over reconnects, only a changed config is decoded again
+        boolean changed = lastConfig == null || packet.hash() != lastHash;
+        if (changed) {
+            if (packet.payload().length == 0) {
+                // Confirmed a config this client no longer has, ask for the payload
+                VineryNetwork.sendToServer(new ConfigHashC2SPacket(false, 0));
+                return;
+            }
+            lastConfig = ConfigSync.read(new FriendlyByteBuf(Unpooled.wrappedBuffer(packet.payload())));
+            lastHash = packet.hash();
+        }
+        if (synced && !changed) return;
+        synced = true;
+        ConfigSnapshot.publish(lastConfig);
+    }
+
+    /**
+     * Called after joining a server, asks for its config.
+     */
+    public static void requestSync() {
+        if (Minecraft.getInstance().isLocalServer()) return;
+        VineryNetwork.sendToServer(new ConfigHashC2SPacket(lastConfig != null, lastHash));
+    }
+
+    /**
+     * Whether the client currently uses the config of a remote server instead of its own.
+     */
+    public static boolean isSynced() {
+        return synced;
+    }
+
+    /**
+     * Goes back to the local config after leaving a server.
+     */
+    public static void reset() {
+        if (!synced) return;
+        synced = false;
+        ConfigSnapshot.publish(VineryConfig.DEFAULT.getConfig().validate());
+    }
+}
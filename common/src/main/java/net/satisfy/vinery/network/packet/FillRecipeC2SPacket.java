@@ -0,0 +1,46 @@
+package net.satisfy.vinery.network.packet;
+
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.level.ServerPlayer;
+import net.satisfy.vinery.client.gui.handler.FermentationBarrelGuiHandler;
+import net.satisfy.vinery.network.PacketType;
+import net.satisfy.vinery.network.VineryNetwork;
+import net.satisfy.vinery.network.VineryPacket;
+import net.satisfy.vinery.recipe.FermentationBarrelRecipe;
+
+/**
+ * Asks the server to fill the open fermentation barrel with the ingredients of a recipe, sent by the recipe book and
+ * the JEI and REI transfer handlers.
+ */
+public record FillRecipeC2SPacket(int containerId, ResourceLocation recipe) implements VineryPacket {
+
+    public static FillRecipeC2SPacket read(FriendlyByteBuf buf) {
+        return new FillRecipeC2SPacket(buf.readVarInt(), buf.readResourceLocation());
+    }
+
+    @Override
+    public void write(FriendlyByteBuf buf) {
+        buf.writeVarInt(containerId);
+        buf.writeResourceLocation(recipe);
+    }
+
+    @Override
+    public PacketType<?> type() {
+        return VineryNetwork.FILL_RECIPE;
+    }
+
+    public static void handle(FillRecipeC2SPacket packet, ServerPlayer player) {
+        if (player.isSpectator() || !(player.containerMenu instanceof FermentationBarrelGuiHandler menu)) return;
+        if (menu.containerId != packet.containerId() || !menu.stillValid(player)) return;
+        player.level().getRecipeManager().byKey(packet.recipe()).ifPresent(recipe -> {
+            if (!(recipe instanceof FermentationBarrelRecipe fermentationBarrelRecipe)) return;
+            FermentationBarrelGuiHandler.FillResult result = menu.fillRecipe(fermentationBarrelRecipe);
+            if (result == FermentationBarrelGuiHandler.FillResult.FILLED) {
+                menu.sendAllDataToRemote();
+            } else {
+                player.displayClientMessage(result.message(), true);
+            }
+        });
+    }
+}
@@ -0,0 +1,66 @@
+package net.satisfy.vinery.network.packet;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.core.particles.ParticleOptions;
+import net.minecraft.core.particles.ParticleType;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.util.RandomSource;
+import net.satisfy.vinery.network.PacketType;
+import net.satisfy.vinery.network.VineryNetwork;
+import net.satisfy.vinery.network.VineryPacket;
+
+/**
+ * A particle burst of {@link net.satisfy.vinery.util.ParticleAggregator}, spawned like the vanilla particle packet.
+ */
+public record ParticleS2CPacket(ParticleOptions particle, double x, double y, double z, float xDist, float yDist,
+                                float zDist, float speed, int count) implements VineryPacket {
+
+    public static ParticleS2CPacket read(FriendlyByteBuf buf) {
+        ParticleType<?> type = buf.readById(BuiltInRegistries.PARTICLE_TYPE);
+        return new ParticleS2CPacket(readParticle(buf, type), buf.readDouble(), buf.readDouble(), buf.readDouble(),
+                buf.readFloat(), buf.readFloat(), buf.readFloat(), buf.readFloat(), buf.readVarInt());
+    }
+
+    private static <T extends ParticleOptions> T readParticle(FriendlyByteBuf buf, ParticleType<T> type) {
+        return type.getDeserializer().fromNetwork(type, buf);
+    }
+
+    @Override
+    public void write(FriendlyByteBuf buf) {
+        buf.writeId(BuiltInRegistries.PARTICLE_TYPE, particle.getType());
+        particle.writeToNetwork(buf);
+        buf.writeDouble(x);
+        buf.writeDouble(y);
+        buf.writeDouble(z);
+        buf.writeFloat(xDist);
+        buf.writeFloat(yDist);
+        buf.writeFloat(zDist);
+        buf.writeFloat(speed);
+        buf.writeVarInt(count);
+    }
+
+    @Override
+    public PacketType<?> type() {
+        return VineryNetwork.PARTICLES;
+    }
+
+    public static void handle(ParticleS2CPacket packet) {
+        ClientLevel level = Minecraft.getInstance().level;
+        if (level == null) return;
+        if (packet.count() == 0) {
+            float speed = packet.speed();
+            level.addParticle(packet.particle(), packet.x(), packet.y(), packet.z(), speed * packet.xDist(), speed * packet.yDist(), speed * packet.zDist());
+            return;
+        }
+        RandomSource random = level.getRandom();
+        for (int i = 0; i < packet.count(); i++) {
+            level.addParticle(packet.particle(),
+                    packet.x() + random.nextGaussian() * packet.xDist(),
+                    packet.y() + random.nextGaussian() * packet.yDist(),
+                    packet.z() + random.nextGaussian() * packet.zDist(),
+                    random.nextGaussian() * packet.speed(), random.nextGaussian() * packet.speed(), random.nextGaussian() * packet.speed());
+        }
+    }
+}
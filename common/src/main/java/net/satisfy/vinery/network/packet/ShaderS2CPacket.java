@@ -1,24 +1,29 @@
 package net.satisfy.vinery.network.packet;
 
 
-import dev.architectury.networking.NetworkManager;
-import net.minecraft.client.Minecraft;
 import net.minecraft.network.FriendlyByteBuf;
-import net.satisfy.vinery.client.shader.Shader;
+import net.satisfy.vinery.network.PacketType;
+import net.satisfy.vinery.network.VineryNetwork;
+import net.satisfy.vinery.network.VineryPacket;
 import net.satisfy.vinery.util.ShaderUtils;
 
-public class ShaderS2CPacket implements NetworkManager.NetworkReceiver {
+public record ShaderS2CPacket(boolean activate) implements VineryPacket {
+
+    public static ShaderS2CPacket read(FriendlyByteBuf buf) {
+        return new ShaderS2CPacket(buf.readBoolean());
+    }
+
     @Override
-    public void receive(FriendlyByteBuf buf, NetworkManager.PacketContext context) {
-        boolean activate = buf.readBoolean();
-        Minecraft client = Minecraft.getInstance();
-        client.execute(() -> {
-            ShaderUtils.enabled = activate;
-            ShaderUtils.load(activate ? ShaderUtils.getRandomShader() : ShaderUtils.getShader(Shader.NONE));
-            if (ShaderUtils.shader != null) {
-                ShaderUtils.shader.resize(client.getWindow().getWidth(), client.getWindow().getHeight());
-            }
-        });
+    public void write(FriendlyByteBuf buf) {
+        buf.writeBoolean(activate);
     }
-}
 
+    @Override
+    public PacketType<?> type() {
+        return VineryNetwork.SHADER;
+    }
+
+    public static void handle(ShaderS2CPacket packet) {
+        ShaderUtils.setActive(packet.activate());
+    }
+}
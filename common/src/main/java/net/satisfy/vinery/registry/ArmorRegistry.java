@@ -19,7 +19,7 @@ import net.satisfy.vinery.client.VineryClient;
 import net.satisfy.vinery.client.model.StrawHatModel;
 import net.satisfy.vinery.client.model.WinemakerInner;
 import net.satisfy.vinery.client.model.WinemakerOuter;
-import net.satisfy.vinery.config.VineryConfig;
+import net.satisfy.vinery.config.ConfigSnapshot;
 import net.satisfy.vinery.item.WinemakerBootsItem;
 import net.satisfy.vinery.item.WinemakerChestItem;
 import net.satisfy.vinery.item.WinemakerHatItem;
@@ -64,7 +64,7 @@ public class ArmorRegistry {
 
 
     public static void appendtooltip(List<Component> tooltip){
-        if(!VineryConfig.DEFAULT.getConfig().enableWineMakerSetBonus()) return;
+        if(!ConfigSnapshot.get().config().enableWineMakerSetBonus()) return;
         Player player = VineryClient.getClientPlayer();
         if (player == null) return;
         ItemStack helmet = player.getItemBySlot(EquipmentSlot.HEAD);
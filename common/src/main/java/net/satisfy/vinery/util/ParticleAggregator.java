@@ -0,0 +1,127 @@
+package net.satisfy.vinery.util;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.SectionPos;
+import net.minecraft.core.particles.ParticleOptions;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.satisfy.vinery.config.ConfigSnapshot;
+import net.satisfy.vinery.network.VineryNetwork;
+import net.satisfy.vinery.network.packet.ParticleS2CPacket;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Collects the particles vinery effects want to show during a level tick, merges requests of the same
+ * type within a chunk section and queues them once at the end of the tick, limited by a per player budget.
+ * The bursts go out in the player's vinery batch instead of one vanilla particle packet each.
+ */
+public class ParticleAggregator {
+    private static final Map<ServerLevel, ParticleAggregator> AGGREGATORS = new WeakHashMap<>();
+    // Same range as ServerLevel#sendParticles
+    private static final double SEND_DISTANCE_SQR = 32 * 32;
+
+    private final Map<ParticleOptions, Long2ObjectOpenHashMap<Burst>> pending = new HashMap<>();
+    private final List<Burst> bursts = new ArrayList<>();
+
+    public static void sendParticles(ServerLevel level, ParticleOptions type, double x, double y, double z, int count, double xDist, double yDist, double zDist, double speed) {
+        AGGREGATORS.computeIfAbsent(level, l -> new ParticleAggregator()).add(type, x, y, z, count, xDist, yDist, zDist, speed);
+    }
+
+    public static void flush(ServerLevel level) {
+        ParticleAggregator aggregator = AGGREGATORS.get(level);
+        if (aggregator != null && !aggregator.bursts.isEmpty()) {
+            aggregator.send(level);
+        }
+    }
+
+    private void add(ParticleOptions type, double x, double y, double z, int count, double xDist, double yDist, double zDist, double speed) {
+        long section = SectionPos.asLong(SectionPos.blockToSectionCoord(x), SectionPos.blockToSectionCoord(y), SectionPos.blockToSectionCoord(z));
+        Long2ObjectOpenHashMap<Burst> bySection = pending.computeIfAbsent(type, t -> new Long2ObjectOpenHashMap<>());
+        Burst burst = bySection.get(section);
+        if (burst == null) {
+            burst = new Burst(type, x, y, z, xDist, yDist, zDist, speed);
+            bySection.put(section, burst);
+            bursts.add(burst);
+        } else {
+            burst.merge(x, y, z, xDist, yDist, zDist, speed);
+        }
+        burst.count += count;
+    }
+
+    private void send(ServerLevel level) {
+        int budget = ConfigSnapshot.get().config().particleBudgetPerPlayer();
+        for (ServerPlayer player : level.players()) {
+            int remaining = budget;
+            for (Burst burst : bursts) {
+                if (remaining <= 0) break;
+                if (player.distanceToSqr(burst.x(), burst.y(), burst.z()) > SEND_DISTANCE_SQR) continue;
+                int count = Math.min(burst.count, remaining);
+                VineryNetwork.send(player, new ParticleS2CPacket(burst.type, burst.x(), burst.y(), burst.z(), (float) burst.xDist(), (float) burst.yDist(), (float) burst.zDist(), (float) burst.speed, count));
+                remaining -= count;
+            }
+        }
+        pending.clear();
+        bursts.clear();
+    }
+
+    private static class Burst {
+        private final ParticleOptions type;
+        private double minX, minY, minZ, maxX, maxY, maxZ;
+        private double xDist, yDist, zDist, speed;
+        private int count;
+
+        private Burst(ParticleOptions type, double x, double y, double z, double xDist, double yDist, double zDist, double speed) {
+            this.type = type;
+            this.minX = this.maxX = x;
+            this.minY = this.maxY = y;
+            this.minZ = this.maxZ = z;
+            this.xDist = xDist;
+            this.yDist = yDist;
+            this.zDist = zDist;
+            this.speed = speed;
+        }
+
+        private void merge(double x, double y, double z, double xDist, double yDist, double zDist, double speed) {
+            minX = Math.min(minX, x);
+            minY = Math.min(minY, y);
+            minZ = Math.min(minZ, z);
+            maxX = Math.max(maxX, x);
+            maxY = Math.max(maxY, y);
+            maxZ = Math.max(maxZ, z);
+            this.xDist = Math.max(this.xDist, xDist);
+            this.yDist = Math.max(this.yDist, yDist);
+            this.zDist = Math.max(this.zDist, zDist);
+            this.speed = Math.max(this.speed, speed);
+        }
+
+        private double x() {
+            return (minX + maxX) / 2;
+        }
+
+        private double y() {
+            return (minY + maxY) / 2;
+        }
+
+        private double z() {
+            return (minZ + maxZ) / 2;
+        }
+
+        // The merged burst is spread over the area all requests of this section covered
+        private double xDist() {
+            return Math.max(xDist, (maxX - minX) / 2);
+        }
+
+        private double yDist() {
+            return Math.max(yDist, (maxY - minY) / 2);
+        }
+
+        private double zDist() {
+            return Math.max(zDist, (maxZ - minZ) / 2);
+        }
+    }
+}
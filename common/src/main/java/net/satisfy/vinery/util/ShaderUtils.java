@@ -1,48 +1,109 @@
 package net.satisfy.vinery.util;
 
+import com.google.gson.JsonSyntaxException;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.renderer.PostChain;
+import net.minecraft.server.packs.resources.ResourceManager;
+import net.minecraft.server.packs.resources.ResourceManagerReloadListener;
 import net.minecraft.util.RandomSource;
+import net.satisfy.vinery.Vinery;
 import net.satisfy.vinery.client.shader.Shader;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
 
+/**
+ * Post-processing chains of the trippy effect. A chain is parsed and compiled the first time its {@link Shader} is
+ * used after a resource reload and then kept for later activations, chains that failed to load are remembered until
+ * the next reload. Pooled chains are only resized when they are activated with a different window size.
+ */
 public class ShaderUtils {
     public static final Minecraft client = Minecraft.getInstance();
     public static PostChain shader;
     public static boolean enabled = false;
 
+    private static final RandomSource RANDOM = RandomSource.create();
+    private static final Map<Shader, PooledChain> POOL = new EnumMap<>(Shader.class);
+    private static final Set<Shader> FAILED = EnumSet.noneOf(Shader.class);
+    @Nullable
+    private static Shader active;
+
     public static void load(@Nullable PostChain postChain) {
-        if (shader != null)
-            shader.close();
         shader = postChain;
-        if (shader != null) {
-            shader.resize(client.getWindow().getWidth(), client.getWindow().getHeight());
-            enabled = true;
-            return;
-        }
-        enabled = false;
+        enabled = shader != null;
+        if (shader == null) active = null;
+    }
+
+    public static void setActive(boolean activate) {
+        Shader picked = activate ? Shader.values()[RANDOM.nextInt(Shader.values().length)] : Shader.NONE;
+        load(getShader(picked));
+        if (shader != null) active = picked;
     }
 
+    @Nullable
     public static PostChain getShader(Shader shader) {
-        if (shader.getId() == -1)
-            return null;
-        else {
+        if (shader.getId() == -1 || FAILED.contains(shader)) return null;
+        PooledChain pooled = POOL.get(shader);
+        if (pooled == null) {
             try {
-                return new PostChain(client.getTextureManager(), client.getResourceManager(), client.getMainRenderTarget(), shader.getResource());
-            } catch (IOException e) {
+                pooled = new PooledChain(new PostChain(client.getTextureManager(), client.getResourceManager(), client.getMainRenderTarget(), shader.getResource()));
+            } catch (IOException | JsonSyntaxException e) {
+                Vinery.LOGGER.warn("Couldn't load shader {}", shader.getResource(), e);
+                FAILED.add(shader);
                 return null;
             }
+            POOL.put(shader, pooled);
+        }
+        pooled.resize(client.getWindow().getWidth(), client.getWindow().getHeight());
+        return pooled.chain;
+    }
+
+    /**
+     * Resizes the active chain, the others are resized when they are activated.
+     */
+    public static void resizeActive(int width, int height) {
+        if (active != null) {
+            PooledChain pooled = POOL.get(active);
+            if (pooled != null) pooled.resize(width, height);
+        }
+    }
+
+    private static void clear() {
+        POOL.values().forEach(pooled -> pooled.chain.close());
+        POOL.clear();
+        FAILED.clear();
+        // The active chain was closed with the pool, rebuild it from the new resources
+        if (active != null) {
+            Shader wasActive = active;
+            load(getShader(wasActive));
+            if (shader != null) active = wasActive;
+        }
+    }
+
+    public static class ReloadListener implements ResourceManagerReloadListener {
+        @Override
+        public void onResourceManagerReload(ResourceManager resourceManager) {
+            clear();
         }
     }
 
-    public static PostChain getRandomShader() {
-        Shader shader = Shader.values()[RandomSource.create().nextInt(Shader.values().length)];
-        try {
-            return new PostChain(client.getTextureManager(), client.getResourceManager(), client.getMainRenderTarget(), shader.getResource());
-        } catch (IOException e) {
-            return null;
+    private static class PooledChain {
+        private final PostChain chain;
+        private int width = -1, height = -1;
+
+        private PooledChain(PostChain chain) {
+            this.chain = chain;
+        }
+
+        private void resize(int width, int height) {
+            if (this.width == width && this.height == height) return;
+            this.width = width;
+            this.height = height;
+            chain.resize(width, height);
         }
     }
 }
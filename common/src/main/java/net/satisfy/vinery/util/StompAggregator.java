@@ -0,0 +1,41 @@
+package net.satisfy.vinery.util;
+
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.block.state.BlockState;
+import net.satisfy.vinery.block.GrapevinePotBlock;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Counts the entities stomping on grapevine pots during a level tick and applies them at the end of the tick, with one
+ * block update and one sound per pot however many entities landed on it. Stomps are applied right away instead with
+ * {@code -Dvinery.stomping.immediate=true}.
+ */
+public class StompAggregator {
+    public static final boolean BATCHED = !Boolean.getBoolean("vinery.stomping.immediate");
+
+    private static final Map<ServerLevel, Long2IntOpenHashMap> PENDING = new WeakHashMap<>();
+
+    public static void stomp(ServerLevel level, BlockPos pos) {
+        PENDING.computeIfAbsent(level, l -> new Long2IntOpenHashMap()).addTo(pos.asLong(), 1);
+    }
+
+    public static void flush(ServerLevel level) {
+        Long2IntOpenHashMap stomps = PENDING.get(level);
+        if (stomps == null || stomps.isEmpty()) return;
+        BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        for (Long2IntMap.Entry entry : stomps.long2IntEntrySet()) {
+            pos.set(entry.getLongKey());
+            if (!level.isLoaded(pos)) continue;
+            BlockState state = level.getBlockState(pos);
+            if (state.getBlock() instanceof GrapevinePotBlock pot) {
+                pot.stomp(level, pos.immutable(), state, entry.getIntValue());
+            }
+        }
+        stomps.clear();
+    }
+}
@@ -0,0 +1,76 @@
+package net.satisfy.vinery.util;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.JsonOps;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.packs.resources.ResourceManager;
+import net.minecraft.server.packs.resources.SimpleJsonResourceReloadListener;
+import net.minecraft.util.ExtraCodecs;
+import net.minecraft.util.profiling.ProfilerFiller;
+import net.satisfy.vinery.Vinery;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The price reduction of the trading effect per effect amplifier, as a fraction of the first cost of an offer.
+ * Loaded from {@code data/<namespace>/trading_discount/*.json}; amplifiers past the end of the table use its last entry.
+ */
+public record TradingDiscount(List<Float> discounts, int minimum) {
+    public static final TradingDiscount DEFAULT = new TradingDiscount(List.of(0.1F, 0.2F, 0.3F, 0.4F, 0.5F, 0.6F, 0.7F, 0.8F, 0.9F, 1.0F), 1);
+
+    public static final Codec<TradingDiscount> CODEC = RecordCodecBuilder.create(builder ->
+            builder.group(
+                    ExtraCodecs.nonEmptyList(Codec.floatRange(0, 1).listOf()).fieldOf("discounts").forGetter(TradingDiscount::discounts),
+                    ExtraCodecs.NON_NEGATIVE_INT.optionalFieldOf("minimum", DEFAULT.minimum).forGetter(TradingDiscount::minimum)
+            ).apply(builder, TradingDiscount::new)
+    );
+
+    private static float[] TABLE = toTable(DEFAULT);
+    private static int MINIMUM = DEFAULT.minimum;
+
+    private static float[] toTable(TradingDiscount discount) {
+        float[] table = new float[discount.discounts.size()];
+        for (int i = 0; i < table.length; i++) {
+            table[i] = discount.discounts.get(i);
+        }
+        return table;
+    }
+
+    public static float getDiscount(int amplifier) {
+        float[] table = TABLE;
+        return table[Math.max(0, Math.min(amplifier, table.length - 1))];
+    }
+
+    public static int getMinimum() {
+        return MINIMUM;
+    }
+
+    public static class Loader extends SimpleJsonResourceReloadListener {
+        private static final Gson GSON = new GsonBuilder().create();
+
+        public Loader() {
+            super(GSON, "trading_discount");
+        }
+
+        @Override
+        protected void apply(Map<ResourceLocation, JsonElement> map, ResourceManager resourceManager, ProfilerFiller profiler) {
+            TradingDiscount discount = map.entrySet().stream()
+                    .sorted(Map.Entry.comparingByKey(Comparator.naturalOrder()))
+                    .map(entry -> CODEC.parse(JsonOps.INSTANCE, entry.getValue())
+                            .resultOrPartial(error -> Vinery.LOGGER.error("Couldn't parse trading discount {}: {}", entry.getKey(), error))
+                            .orElse(null))
+                    .filter(Objects::nonNull)
+                    .reduce((first, second) -> second)
+                    .orElse(DEFAULT);
+            TABLE = toTable(discount);
+            MINIMUM = discount.minimum;
+        }
+    }
+}
@@ -1,33 +1,58 @@
 package net.satisfy.vinery.util;
 
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.Tag;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
-import net.satisfy.vinery.config.VineryConfig;
+import net.satisfy.vinery.config.ConfigSnapshot;
 
 public class WineYears {
 	public static final int YEARS_START = 0;
 	public static final int MAX_LEVEL = 5;
+	/**
+	 * Returned by {@link #getWineYear(ItemStack)} for wines that have not been stamped with a year of production yet.
+	 */
+	public static final int UNSTAMPED = Integer.MIN_VALUE;
+	private static final String YEAR_KEY = "Year";
 
 	public static int getYear(Level world) {
-		return world != null ? YEARS_START + (int) (world.getDayTime() / 24000 / VineryConfig.DEFAULT.getConfig().yearLengthInDays()) : YEARS_START;
+		return world != null ? YEARS_START + (int) (world.getDayTime() / ConfigSnapshot.get().yearLengthInTicks()) : YEARS_START;
 	}
 
 	public static int getEffectLevel(ItemStack wine, Level world) {
-		return Math.max(0, Math.min(MAX_LEVEL, getWineAge(wine, world) / VineryConfig.DEFAULT.getConfig().yearsPerEffectLevel()));
+		return Math.max(0, Math.min(MAX_LEVEL, getWineAge(wine, world) / ConfigSnapshot.get().config().yearsPerEffectLevel()));
 	}
 
+	/**
+	 * Unstamped wines count as produced in the current year.
+	 */
 	public static int getWineAge(ItemStack wine, Level world) {
-		return getYear(world) - getWineYear(wine, world);
+		int wineYear = getWineYear(wine);
+		return wineYear == UNSTAMPED ? 0 : getYear(world) - wineYear;
 	}
 
 	public static void setWineYear(ItemStack wine, Level world) {
-		wine.getOrCreateTag().putInt("Year", getYear(world));
+		wine.getOrCreateTag().putInt(YEAR_KEY, getYear(world));
 	}
 
-	public static int getWineYear(ItemStack wine, Level world) {
-		CompoundTag nbt = wine.getOrCreateTag();
-		if (!nbt.contains("Year")) setWineYear(wine, world);
-		return nbt.getInt("Year");
+	/**
+	 * Stamps the current year onto the wine, unless it already has one. Only call this where the wine is crafted or stored.
+	 */
+	public static void stampWineYear(ItemStack wine, Level world) {
+		if (!isStamped(wine)) setWineYear(wine, world);
 	}
-}
\ No newline at end of file
+
+	public static boolean isStamped(ItemStack wine) {
+		CompoundTag nbt = wine.getTag();
+		return nbt != null && nbt.contains(YEAR_KEY, Tag.TAG_INT);
+	}
+
+	/**
+	 * Reads the year of production without modifying the stack.
+	 *
+	 * @return the year of production or {@link #UNSTAMPED}
+	 */
+	public static int getWineYear(ItemStack wine) {
+		return isStamped(wine) ? wine.getTag().getInt(YEAR_KEY) : UNSTAMPED;
+	}
+}
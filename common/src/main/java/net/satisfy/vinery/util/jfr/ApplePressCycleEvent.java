@@ -0,0 +1,11 @@
+package net.satisfy.vinery.util.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("vinery.ApplePressCycle")
+@Label("Apple Press Cycle")
+@Description("Recipe resolution and progress of an apple press")
+public class ApplePressCycleEvent extends VineryEvent {
+}
@@ -0,0 +1,15 @@
+package net.satisfy.vinery.util.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("vinery.EffectTick")
+@Label("Effect Tick")
+@Description("Tick of a vinery mob effect, the position is the one of the affected entity")
+public class EffectTickEvent extends VineryEvent {
+    @Label("Effect")
+    public String effect;
+    @Label("Amplifier")
+    public int amplifier;
+}
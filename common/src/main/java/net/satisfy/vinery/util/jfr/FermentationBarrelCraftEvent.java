@@ -0,0 +1,11 @@
+package net.satisfy.vinery.util.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("vinery.FermentationBarrelCraft")
+@Label("Fermentation Barrel Craft")
+@Description("A fermentation barrel finishing a wine")
+public class FermentationBarrelCraftEvent extends VineryEvent {
+}
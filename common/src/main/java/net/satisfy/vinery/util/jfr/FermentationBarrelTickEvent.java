@@ -0,0 +1,11 @@
+package net.satisfy.vinery.util.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("vinery.FermentationBarrelTick")
+@Label("Fermentation Barrel Tick")
+@Description("Recipe resolution and progress of a fermentation barrel")
+public class FermentationBarrelTickEvent extends VineryEvent {
+}
@@ -0,0 +1,11 @@
+package net.satisfy.vinery.util.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("vinery.GrassSlabSpread")
+@Label("Grass Slab Spread")
+@Description("A spread attempt of grass onto dirt or dirt slabs")
+public class GrassSlabSpreadEvent extends VineryEvent {
+}
@@ -0,0 +1,11 @@
+package net.satisfy.vinery.util.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("vinery.JungleGrapePlace")
+@Label("Jungle Grape Placement")
+@Description("Placement of a jungle grape feature, the outcome is the number of placed vines")
+public class JungleGrapePlaceEvent extends VineryEvent {
+}
@@ -0,0 +1,13 @@
+package net.satisfy.vinery.util.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("vinery.RandomTick")
+@Label("Random Tick")
+@Description("Random tick of a vinery block")
+public class RandomTickEvent extends VineryEvent {
+    @Label("Block")
+    public Class<?> block;
+}
@@ -0,0 +1,33 @@
+package net.satisfy.vinery.util.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+import net.minecraft.core.BlockPos;
+
+/**
+ * Base of all vinery events. The duration is the time between {@link #begin()} and {@link #finish}.
+ */
+@Category("Vinery")
+@StackTrace(false)
+public abstract class VineryEvent extends jdk.jfr.Event {
+    @Label("X")
+    int x;
+    @Label("Y")
+    int y;
+    @Label("Z")
+    int z;
+    @Label("Outcome")
+    String outcome;
+
+    public void finish(BlockPos pos, String outcome) {
+        end();
+        if (shouldCommit()) {
+            this.x = pos.getX();
+            this.y = pos.getY();
+            this.z = pos.getZ();
+            this.outcome = outcome;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package net.satisfy.vinery.util.jfr;
+
+/**
+ * Java Flight Recorder events for the vinery hot paths. The events are off unless the server is started with
+ * {@code -Dvinery.jfr=true}, the flag is read once at startup and is part of the constant answer of
+ * {@link net.satisfy.vinery.util.profiling.VineryProfiler#isRecording()}. With the flag on, record with e.g.
+ * {@code -XX:StartFlightRecording=filename=vinery.jfr} and look for the events in the "Vinery" category.
+ */
+public final class VineryEvents {
+    public static final boolean ENABLED = Boolean.getBoolean("vinery.jfr");
+
+    private static final ClassValue<Boolean> FROM_VINERY = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return type.getName().startsWith("net.satisfy.vinery.");
+        }
+    };
+
+    private VineryEvents() {
+    }
+
+    /**
+     * Whether a block or effect class belongs to vinery, vanilla and other mods are not recorded.
+     */
+    public static boolean isVinery(Class<?> type) {
+        return FROM_VINERY.get(type);
+    }
+}
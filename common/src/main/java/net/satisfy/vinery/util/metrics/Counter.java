@@ -0,0 +1,33 @@
+package net.satisfy.vinery.util.metrics;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+public class Counter implements Metric {
+    private final String name;
+    private final String help;
+    private final LongAdder value = new LongAdder();
+
+    Counter(String name, String help) {
+        this.name = name;
+        this.help = help;
+    }
+
+    public void increment() {
+        value.increment();
+    }
+
+    public void add(long amount) {
+        value.add(amount);
+    }
+
+    public long get() {
+        return value.sum();
+    }
+
+    @Override
+    public void collect(List<Sample> samples) {
+        samples.add(new Sample(name + "_total", help, Sample.Type.COUNTER, Map.of(), get()));
+    }
+}
@@ -0,0 +1,33 @@
+package net.satisfy.vinery.util.metrics;
+
+/**
+ * Counts the active and idle machines of one kind. Every loaded machine reports once per tick, the counts of the
+ * last complete tick are exported.
+ */
+public class MachineGauge {
+    private int active;
+    private int idle;
+    private volatile int lastActive;
+    private volatile int lastIdle;
+
+    MachineGauge(MetricsRegistry registry, String name, String machines) {
+        registry.gauge(name + "_loaded", "Loaded " + machines, () -> lastActive + lastIdle);
+        registry.gauge(name + "_active", "Working " + machines, () -> lastActive);
+        registry.gauge(name + "_idle", "Idle " + machines, () -> lastIdle);
+    }
+
+    /**
+     * Called by every ticking machine, on the server thread.
+     */
+    public void tick(boolean working) {
+        if (working) active++;
+        else idle++;
+    }
+
+    void endTick() {
+        lastActive = active;
+        lastIdle = idle;
+        active = 0;
+        idle = 0;
+    }
+}
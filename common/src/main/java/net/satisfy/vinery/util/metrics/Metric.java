@@ -0,0 +1,12 @@
+package net.satisfy.vinery.util.metrics;
+
+import java.util.List;
+
+@FunctionalInterface
+public interface Metric {
+
+    /**
+     * Adds the current values of this metric to the samples, called on the server thread.
+     */
+    void collect(List<Sample> samples);
+}
@@ -0,0 +1,56 @@
+package net.satisfy.vinery.util.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.DoubleSupplier;
+
+/**
+ * A small Micrometer-style registry of counters and gauges. Bridges to other monitoring systems call
+ * {@link #collect()} or register a {@link MetricsSink} with {@link VineryMetrics#addSink}.
+ */
+public class MetricsRegistry {
+    private final List<Metric> metrics = new CopyOnWriteArrayList<>();
+
+    public Counter counter(String name, String help) {
+        return register(new Counter(name, help));
+    }
+
+    public void gauge(String name, String help, DoubleSupplier value) {
+        register(samples -> samples.add(new Sample(name, help, Sample.Type.GAUGE, Map.of(), value.getAsDouble())));
+    }
+
+    /**
+     * A gauge of how many times the counter increased per minute since the last collection.
+     */
+    public void ratePerMinute(String name, String help, Counter counter) {
+        register(new Metric() {
+            private long lastCount = counter.get();
+            private long lastNanos = System.nanoTime();
+
+            @Override
+            public void collect(List<Sample> samples) {
+                long count = counter.get();
+                long nanos = System.nanoTime();
+                double minutes = (nanos - lastNanos) / 60.0E9D;
+                samples.add(new Sample(name, help, Sample.Type.GAUGE, Map.of(), minutes > 0 ? (count - lastCount) / minutes : 0));
+                lastCount = count;
+                lastNanos = nanos;
+            }
+        });
+    }
+
+    public <T extends Metric> T register(T metric) {
+        metrics.add(metric);
+        return metric;
+    }
+
+    public List<Sample> collect() {
+        List<Sample> samples = new ArrayList<>();
+        for (Metric metric : metrics) {
+            metric.collect(samples);
+        }
+        return samples;
+    }
+}
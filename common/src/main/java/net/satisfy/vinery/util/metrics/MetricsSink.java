@@ -0,0 +1,13 @@
+package net.satisfy.vinery.util.metrics;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Receives the collected samples every metrics interval. Sinks are called off the server thread, one call at a time.
+ */
+@FunctionalInterface
+public interface MetricsSink {
+
+    void write(List<Sample> samples) throws IOException;
+}
@@ -0,0 +1,40 @@
+package net.satisfy.vinery.util.metrics;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hits and misses of a machine's last-recipe cache, plus the hit rate since the last collection.
+ */
+public class RecipeCacheMetric implements Metric {
+    private final String name;
+    private final String machine;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private long lastHits;
+    private long lastMisses;
+
+    RecipeCacheMetric(String name, String machine) {
+        this.name = name;
+        this.machine = machine;
+    }
+
+    public void record(boolean hit) {
+        if (hit) hits.increment();
+        else misses.increment();
+    }
+
+    @Override
+    public void collect(List<Sample> samples) {
+        long hits = this.hits.sum();
+        long misses = this.misses.sum();
+        long newHits = hits - lastHits;
+        long lookups = newHits + misses - lastMisses;
+        samples.add(new Sample(name + "_hits_total", "Recipe lookups of " + machine + " answered by the cached recipe", Sample.Type.COUNTER, Map.of(), hits));
+        samples.add(new Sample(name + "_misses_total", "Recipe lookups of " + machine + " that searched all recipes", Sample.Type.COUNTER, Map.of(), misses));
+        samples.add(new Sample(name + "_hit_rate", "Share of cached recipe hits of " + machine + " since the last collection", Sample.Type.GAUGE, Map.of(), lookups > 0 ? newHits / (double) lookups : 0));
+        lastHits = hits;
+        lastMisses = misses;
+    }
+}
@@ -0,0 +1,14 @@
+package net.satisfy.vinery.util.metrics;
+
+import java.util.Map;
+
+/**
+ * One value of a metric at the time it was collected.
+ */
+public record Sample(String name, String help, Type type, Map<String, String> labels, double value) {
+
+    public enum Type {
+        COUNTER,
+        GAUGE
+    }
+}
@@ -0,0 +1,59 @@
+package net.satisfy.vinery.util.metrics;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Writes the samples in the Prometheus text format, e.g. for the textfile collector of the node exporter. The file is
+ * written next to the target and then moved over it, so readers never see a half written file.
+ */
+public class TextFileMetricsSink implements MetricsSink {
+    private final Path file;
+
+    public TextFileMetricsSink(Path file) {
+        this.file = file;
+    }
+
+    @Override
+    public void write(List<Sample> samples) throws IOException {
+        StringBuilder text = new StringBuilder();
+        Set<String> described = new HashSet<>();
+        for (Sample sample : samples) {
+            if (described.add(sample.name())) {
+                text.append("# HELP ").append(sample.name()).append(' ').append(sample.help()).append('\n');
+                text.append("# TYPE ").append(sample.name()).append(' ').append(sample.type().name().toLowerCase(Locale.ROOT)).append('\n');
+            }
+            text.append(sample.name());
+            if (!sample.labels().isEmpty()) {
+                text.append('{');
+                boolean first = true;
+                for (Map.Entry<String, String> label : sample.labels().entrySet()) {
+                    if (!first) text.append(',');
+                    first = false;
+                    text.append(label.getKey()).append("=\"").append(escape(label.getValue())).append('"');
+                }
+                text.append('}');
+            }
+            text.append(' ').append(format(sample.value())).append('\n');
+        }
+
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.writeString(temp, text);
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static String format(double value) {
+        return value == Math.rint(value) && !Double.isInfinite(value) ? Long.toString((long) value) : Double.toString(value);
+    }
+}
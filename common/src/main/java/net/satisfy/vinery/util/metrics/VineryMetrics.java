@@ -0,0 +1,106 @@
+package net.satisfy.vinery.util.metrics;
+
+import dev.architectury.event.events.common.TickEvent;
+import net.minecraft.Util;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.effect.MobEffectInstance;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.LivingEntity;
+import net.satisfy.vinery.Vinery;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Gauges and counters of the vinery machines, crops, effects and spawns. Started with
+ * {@code -Dvinery.metrics=<seconds>}, the samples are collected at that interval and written to
+ * {@code vinery-metrics.prom} in the server directory (or the file given with {@code -Dvinery.metrics.file}).
+ * Other sinks can be added with {@link #addSink}.
+ */
+public class VineryMetrics {
+    public static final String PROPERTY = "vinery.metrics";
+    public static final int INTERVAL_SECONDS = Integer.getInteger(PROPERTY, 0);
+    public static final boolean ENABLED = INTERVAL_SECONDS > 0;
+
+    private static final MetricsRegistry REGISTRY = new MetricsRegistry();
+    private static final List<MetricsSink> SINKS = new CopyOnWriteArrayList<>();
+
+    public static final MachineGauge BARRELS = new MachineGauge(REGISTRY, "vinery_fermentation_barrels", "fermentation barrels");
+    public static final MachineGauge PRESSES = new MachineGauge(REGISTRY, "vinery_apple_presses", "apple presses");
+    public static final Counter BOTTLES_FERMENTED = REGISTRY.counter("vinery_bottles_fermented", "Wine bottles finished by fermentation barrels");
+    public static final Counter GRAPES_HARVESTED = REGISTRY.counter("vinery_grapes_harvested", "Grapes picked from bushes, vines and stems");
+    public static final Counter WINEMAKER_SPAWN_ATTEMPTS = REGISTRY.counter("vinery_winemaker_spawn_attempts", "Positions tried to spawn a wandering winemaker");
+    public static final Counter WINEMAKER_SPAWNS = REGISTRY.counter("vinery_winemaker_spawns", "Spawned wandering winemakers");
+    public static final RecipeCacheMetric BARREL_RECIPES = REGISTRY.register(new RecipeCacheMetric("vinery_fermentation_barrel_recipes", "fermentation barrels"));
+    public static final RecipeCacheMetric PRESS_RECIPES = REGISTRY.register(new RecipeCacheMetric("vinery_apple_press_recipes", "apple presses"));
+
+    private static volatile Map<ResourceLocation, Integer> effects = Map.of();
+    private static int ticks;
+    private static boolean fileSinkAdded;
+
+    static {
+        REGISTRY.ratePerMinute("vinery_bottles_fermented_per_minute", "Wine bottles finished per minute", BOTTLES_FERMENTED);
+        REGISTRY.ratePerMinute("vinery_grapes_harvested_per_minute", "Grapes picked per minute", GRAPES_HARVESTED);
+        REGISTRY.register(samples -> effects.forEach((effect, count) -> samples.add(new Sample("vinery_effect_instances",
+                "Active vinery effect instances", Sample.Type.GAUGE, Map.of("effect", effect.toString()), count))));
+    }
+
+    public static void init() {
+        if (!ENABLED) return;
+        TickEvent.SERVER_POST.register(VineryMetrics::tick);
+    }
+
+    public static MetricsRegistry registry() {
+        return REGISTRY;
+    }
+
+    public static void addSink(MetricsSink sink) {
+        SINKS.add(sink);
+    }
+
+    private static void tick(MinecraftServer server) {
+        BARRELS.endTick();
+        PRESSES.endTick();
+        if (++ticks < INTERVAL_SECONDS * 20) return;
+        ticks = 0;
+
+        if (!fileSinkAdded) {
+            fileSinkAdded = true;
+            String file = System.getProperty(PROPERTY + ".file");
+            addSink(new TextFileMetricsSink(file != null ? Path.of(file) : server.getServerDirectory().toPath().resolve("vinery-metrics.prom")));
+        }
+        effects = countEffects(server);
+        List<Sample> samples = REGISTRY.collect();
+        // Sinks run one after the other on the IO pool, the next collection is an interval away
+        Util.ioPool().execute(() -> {
+            for (MetricsSink sink : SINKS) {
+                try {
+                    sink.write(samples);
+                } catch (IOException | RuntimeException e) {
+                    Vinery.LOGGER.warn("Couldn't write vinery metrics with {}", sink, e);
+                }
+            }
+        });
+    }
+
+    private static Map<ResourceLocation, Integer> countEffects(MinecraftServer server) {
+        Map<ResourceLocation, Integer> counts = new HashMap<>();
+        for (ServerLevel level : server.getAllLevels()) {
+            for (Entity entity : level.getAllEntities()) {
+                if (!(entity instanceof LivingEntity living)) continue;
+                for (MobEffectInstance instance : living.getActiveEffects()) {
+                    ResourceLocation id = BuiltInRegistries.MOB_EFFECT.getKey(instance.getEffect());
+                    if (id != null && id.getNamespace().equals(Vinery.MOD_ID)) counts.merge(id, 1, Integer::sum);
+                }
+            }
+        }
+        return counts;
+    }
+}
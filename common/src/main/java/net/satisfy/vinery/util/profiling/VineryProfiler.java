@@ -0,0 +1,225 @@
+package net.satisfy.vinery.util.profiling;
+
+import it.unimi.dsi.fastutil.longs.Long2LongMap;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.satisfy.vinery.util.jfr.VineryEvents;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MutableCallSite;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Tick statistics of the vinery subsystems, controlled with {@code /vinery profile}.
+ * <p>
+ * Every thread records into its own bucket, so recording never locks or contends. Hotspots (chunks and block
+ * entities) are only recorded for calls that pass a position, those all come from level ticks on the server thread,
+ * which is also the thread that builds the reports. Worker threads (world generation) only add to the totals.
+ * <p>
+ * The instrumented paths check {@link #isRecording()} first and take the plain code path if neither this profiler
+ * nor the JFR events are on.
+ */
+public final class VineryProfiler {
+    private static final MutableCallSite RECORDING = new MutableCallSite(MethodHandles.constant(boolean.class, VineryEvents.ENABLED));
+    private static final MethodHandle IS_RECORDING = RECORDING.dynamicInvoker();
+
+    @Nullable
+    private static volatile Session session;
+
+    private VineryProfiler() {
+    }
+
+    public enum Subsystem {
+        BARRELS(true),
+        PRESSES(true),
+        VINEYARD_GROWTH(false),
+        GRASS_SPREAD(false),
+        EFFECTS(false),
+        WORLDGEN(false);
+
+        private static final Subsystem[] VALUES = values();
+        private final boolean blockEntity;
+
+        Subsystem(boolean blockEntity) {
+            this.blockEntity = blockEntity;
+        }
+
+        public String getName() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    public static boolean isRunning() {
+        return session != null;
+    }
+
+    /**
+     * Whether the instrumented paths need to be timed, either for this profiler or for the JFR events.
+     * <p>
+     * The answer is the constant target of a call site, which the JIT inlines and only recompiles its callers for when
+     * the profiler is started or stopped. With both off, the check folds away in every vanilla tick it guards.
+     */
+    public static boolean isRecording() {
+        try {
+            return (boolean) IS_RECORDING.invokeExact();
+        } catch (Throwable e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private static void setRecording(boolean running) {
+        RECORDING.setTarget(MethodHandles.constant(boolean.class, VineryEvents.ENABLED || running));
+        MutableCallSite.syncAll(new MutableCallSite[]{RECORDING});
+    }
+
+    /**
+     * @return false if the profiler was already running
+     */
+    public static boolean start(MinecraftServer server) {
+        if (session != null) return false;
+        session = new Session(server.getTickCount());
+        setRecording(true);
+        return true;
+    }
+
+    /**
+     * Stops the profiler and returns its final report, or null if it wasn't running.
+     */
+    @Nullable
+    public static Report stop(MinecraftServer server, int top) {
+        Session stopped = session;
+        if (stopped == null) return null;
+        setRecording(false);
+        session = null;
+        return stopped.report(server.getTickCount(), top);
+    }
+
+    /**
+     * The report of the running profiler, or null if it isn't running.
+     */
+    @Nullable
+    public static Report report(MinecraftServer server, int top) {
+        Session running = session;
+        return running == null ? null : running.report(server.getTickCount(), top);
+    }
+
+    public static void record(Subsystem subsystem, long startNanos) {
+        Session running = session;
+        if (running != null) running.bucket().add(subsystem, System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Records a call at a position, must be called from the server thread.
+     */
+    public static void record(Subsystem subsystem, long startNanos, Level level, BlockPos pos) {
+        Session running = session;
+        if (running == null) return;
+        long nanos = System.nanoTime() - startNanos;
+        Bucket bucket = running.bucket();
+        bucket.add(subsystem, nanos);
+        bucket.chunks.computeIfAbsent(level.dimension(), key -> new Long2LongOpenHashMap())
+                .addTo(ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4), nanos);
+        if (subsystem.blockEntity) {
+            bucket.blockEntities.computeIfAbsent(level.dimension(), key -> new Long2LongOpenHashMap())
+                    .addTo(pos.asLong(), nanos);
+        }
+    }
+
+    private static class Session {
+        private final long startNanos = System.nanoTime();
+        private final int startTick;
+        private final Queue<Bucket> buckets = new ConcurrentLinkedQueue<>();
+        private final ThreadLocal<Bucket> local = ThreadLocal.withInitial(() -> {
+            Bucket bucket = new Bucket();
+            buckets.add(bucket);
+            return bucket;
+        });
+
+        private Session(int startTick) {
+            this.startTick = startTick;
+        }
+
+        private Bucket bucket() {
+            return local.get();
+        }
+
+        private Report report(int tick, int top) {
+            long[] nanos = new long[Subsystem.VALUES.length];
+            long[] calls = new long[Subsystem.VALUES.length];
+            Map<ResourceKey<Level>, Long2LongOpenHashMap> chunks = new HashMap<>();
+            Map<ResourceKey<Level>, Long2LongOpenHashMap> blockEntities = new HashMap<>();
+            for (Bucket bucket : buckets) {
+                for (int i = 0; i < nanos.length; i++) {
+                    nanos[i] += bucket.nanos[i];
+                    calls[i] += bucket.calls[i];
+                }
+                merge(bucket.chunks, chunks);
+                merge(bucket.blockEntities, blockEntities);
+            }
+            return new Report(System.nanoTime() - startNanos, tick - startTick, nanos, calls, top(chunks, top), top(blockEntities, top));
+        }
+
+        private static void merge(Map<ResourceKey<Level>, Long2LongOpenHashMap> from, Map<ResourceKey<Level>, Long2LongOpenHashMap> into) {
+            from.forEach((dimension, map) -> {
+                Long2LongOpenHashMap target = into.computeIfAbsent(dimension, key -> new Long2LongOpenHashMap());
+                for (Long2LongMap.Entry entry : map.long2LongEntrySet()) {
+                    target.addTo(entry.getLongKey(), entry.getLongValue());
+                }
+            });
+        }
+
+        private static List<Hotspot> top(Map<ResourceKey<Level>, Long2LongOpenHashMap> map, int top) {
+            List<Hotspot> hotspots = new ArrayList<>();
+            map.forEach((dimension, positions) -> {
+                for (Long2LongMap.Entry entry : positions.long2LongEntrySet()) {
+                    hotspots.add(new Hotspot(dimension, entry.getLongKey(), entry.getLongValue()));
+                }
+            });
+            hotspots.sort(Comparator.comparingLong(Hotspot::nanos).reversed());
+            return hotspots.size() > top ? List.copyOf(hotspots.subList(0, top)) : hotspots;
+        }
+    }
+
+    private static class Bucket {
+        private final long[] nanos = new long[Subsystem.VALUES.length];
+        private final long[] calls = new long[Subsystem.VALUES.length];
+        private final Map<ResourceKey<Level>, Long2LongOpenHashMap> chunks = new HashMap<>();
+        private final Map<ResourceKey<Level>, Long2LongOpenHashMap> blockEntities = new HashMap<>();
+
+        private void add(Subsystem subsystem, long nanos) {
+            this.nanos[subsystem.ordinal()] += nanos;
+            this.calls[subsystem.ordinal()]++;
+        }
+    }
+
+    /**
+     * @param ticks         server ticks since the profiler was started
+     * @param nanos         total time per {@link Subsystem}, by ordinal
+     * @param calls         number of recorded calls per {@link Subsystem}, by ordinal
+     * @param chunks        the most expensive chunks, positions are {@link ChunkPos#toLong()}
+     * @param blockEntities the most expensive block entities, positions are {@link BlockPos#asLong()}
+     */
+    public record Report(long wallNanos, int ticks, long[] nanos, long[] calls, List<Hotspot> chunks, List<Hotspot> blockEntities) {
+        public long totalNanos() {
+            long total = 0;
+            for (long subsystem : nanos) total += subsystem;
+            return total;
+        }
+    }
+
+    public record Hotspot(ResourceKey<Level> dimension, long pos, long nanos) {
+    }
+}
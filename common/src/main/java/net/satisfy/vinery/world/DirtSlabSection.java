@@ -0,0 +1,41 @@
+package net.satisfy.vinery.world;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.satisfy.vinery.registry.ObjectRegistry;
+
+/**
+ * Implemented by {@link LevelChunkSection} through {@link net.satisfy.vinery.mixin.LevelChunkSectionMixin}, which
+ * counts the dirt slabs of a section when it is loaded and keeps the count up to date when blocks are set. Lets the
+ * grass spread hook skip all sections without dirt slabs.
+ */
+public interface DirtSlabSection {
+
+    boolean vinery$hasDirtSlabs();
+
+    static boolean mayContainDirtSlab(ServerLevel level, BlockPos pos) {
+        int index = level.getSectionIndex(pos.getY());
+        if (index < 0 || index >= level.getSectionsCount()) return false;
+        LevelChunkSection section = level.getChunk(pos.getX() >> 4, pos.getZ() >> 4).getSection(index);
+        return ((DirtSlabSection) section).vinery$hasDirtSlabs();
+    }
+
+    /**
+     * Whether the state is a dirt slab, false until the block is registered.
+     */
+    static boolean isDirtSlab(BlockState state) {
+        Block dirtSlab = Holder.dirtSlab;
+        if (dirtSlab == null) {
+            if (!ObjectRegistry.DIRT_SLAB.isPresent()) return false;
+            dirtSlab = Holder.dirtSlab = ObjectRegistry.DIRT_SLAB.get();
+        }
+        return state.is(dirtSlab);
+    }
+
+    class Holder {
+        private static Block dirtSlab;
+    }
+}
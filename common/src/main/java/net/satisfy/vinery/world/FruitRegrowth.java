@@ -0,0 +1,199 @@
+package net.satisfy.vinery.world;
+
+import dev.architectury.event.events.common.ChunkEvent;
+import it.unimi.dsi.fastutil.longs.Long2LongMap;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.GameRules;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.ChunkStatus;
+import net.minecraft.world.level.chunk.ImposterProtoChunk;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.saveddata.SavedData;
+import net.minecraft.world.ticks.ScheduledTick;
+import net.satisfy.vinery.block.FruitLeavesBlock;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Regrowth of the fruit of {@link FruitLeavesBlock}s. Instead of random ticking every picked leaf, one scheduled tick is
+ * set per leaf, at a time sampled from the same distribution the random ticks had: a 10% chance on each random tick,
+ * which hits a block {@code randomTickSpeed} times in 4096 per game tick.
+ * <p>
+ * Leaves also get scheduled ticks for their distance updates and a level only keeps one tick per position and block,
+ * so the due time is kept here (and saved with the level). A tick that comes early sets the regrowth tick again, and
+ * while the regrowth tick is pending the leaves update their distance right away.
+ * Leaves without a due time grow on their first tick, those got their first regrowth tick from
+ * {@link FruitRegrowthDecorator} at worldgen.
+ * <p>
+ * Chunks saved before regrowth was scheduled have picked leaves without any tick. They are migrated once: a chunk
+ * loaded without the {@value #MIGRATED} marker is scanned when it becomes a full chunk (the platforms call
+ * {@link #onChunkLoad}) and every barren leaf without a pending tick gets one. The marker is written the next time the
+ * chunk is saved.
+ */
+public class FruitRegrowth extends SavedData {
+    private static final String NAME = "vinery_fruit_regrowth";
+    private static final double GROWTH_CHANCE = 0.1D;
+    private static final String MIGRATED = "VineryFruitRegrowth";
+    // Full chunks are tracked by identity, an entry goes away with its chunk when that is unloaded
+    private static final Set<LevelChunk> UNMIGRATED = Collections.newSetFromMap(new WeakHashMap<>());
+    // A chunk saved mid-generation becomes a new LevelChunk when it is promoted, so these are tracked by position.
+    // Only chunks saved before the update end up here, the set doesn't grow with new terrain
+    private static final Map<ServerLevel, LongOpenHashSet> UNMIGRATED_PROTO = new WeakHashMap<>();
+
+    private final Long2LongOpenHashMap dueTimes = new Long2LongOpenHashMap();
+
+    public static void init() {
+        ChunkEvent.LOAD_DATA.register((chunk, level, nbt) -> {
+            if (level == null || nbt.getBoolean(MIGRATED)) return;
+            if (chunk instanceof ImposterProtoChunk imposter) {
+                UNMIGRATED.add(imposter.getWrapped());
+            } else if (chunk.getStatus().isOrAfter(ChunkStatus.FEATURES)) {
+                // Trees of earlier steps are placed later, with their regrowth ticks
+                UNMIGRATED_PROTO.computeIfAbsent(level, l -> new LongOpenHashSet()).add(chunk.getPos().toLong());
+            }
+        });
+        ChunkEvent.SAVE_DATA.register((chunk, level, nbt) -> {
+            // A chunk that is saved before it became full is looked at again the next time it loads
+            if (!isUnmigrated(level, chunk)) nbt.putBoolean(MIGRATED, true);
+        });
+    }
+
+    /**
+     * Called by the platforms when a chunk became a full chunk, on the server thread.
+     */
+    public static void onChunkLoad(ServerLevel level, LevelChunk chunk) {
+        boolean unmigrated = UNMIGRATED.remove(chunk);
+        LongOpenHashSet positions = UNMIGRATED_PROTO.get(level);
+        if (positions != null && positions.remove(chunk.getPos().toLong())) unmigrated = true;
+        if (unmigrated) migrate(level, chunk);
+    }
+
+    private static boolean isUnmigrated(@Nullable ServerLevel level, ChunkAccess chunk) {
+        if (chunk instanceof ImposterProtoChunk imposter) chunk = imposter.getWrapped();
+        if (chunk instanceof LevelChunk levelChunk) return UNMIGRATED.contains(levelChunk);
+        LongOpenHashSet positions = UNMIGRATED_PROTO.get(level);
+        return positions != null && positions.contains(chunk.getPos().toLong());
+    }
+
+    private static void migrate(ServerLevel level, LevelChunk chunk) {
+        BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        LevelChunkSection[] sections = chunk.getSections();
+        for (int i = 0; i < sections.length; i++) {
+            LevelChunkSection section = sections[i];
+            if (section.hasOnlyAir() || !section.maybeHas(FruitLeavesBlock::isBarren)) continue;
+            int minY = SectionPos.sectionToBlockCoord(chunk.getSectionYFromSectionIndex(i));
+            for (int y = 0; y < 16; y++) {
+                for (int z = 0; z < 16; z++) {
+                    for (int x = 0; x < 16; x++) {
+                        BlockState state = section.getBlockState(x, y, z);
+                        if (!FruitLeavesBlock.isBarren(state)) continue;
+                        pos.set(chunk.getPos().getBlockX(x), minY + y, chunk.getPos().getBlockZ(z));
+                        // The chunk's own ticks, it may not be registered with the level yet
+                        if (!chunk.getBlockTicks().hasScheduledTick(pos, state.getBlock())) {
+                            BlockPos leaf = pos.immutable();
+                            long due = level.getGameTime() + setDueTime(level, leaf);
+                            chunk.getBlockTicks().schedule(new ScheduledTick<>(state.getBlock(), leaf, due, level.nextSubTickCount()));
+                        }
+                    }
+                }
+            }
+        }
+        // Writes the marker even if nothing else in the chunk changes
+        chunk.setUnsaved(true);
+    }
+
+    private static FruitRegrowth get(ServerLevel level) {
+        return level.getDataStorage().computeIfAbsent(FruitRegrowth::load, FruitRegrowth::new, NAME);
+    }
+
+    /**
+     * @return the game ticks until the fruit regrows, at least 1
+     */
+    public static int sampleDelay(RandomSource random, GameRules gameRules) {
+        // With random ticking off the fruit still regrows, as slowly as at speed 1
+        int randomTickSpeed = Math.max(gameRules.getInt(GameRules.RULE_RANDOMTICKING), 1);
+        double chance = randomTickSpeed / 4096D * GROWTH_CHANCE;
+        double ticks = Math.log(1 - random.nextDouble()) / Math.log(1 - chance);
+        return (int) Math.min(1 + ticks, Integer.MAX_VALUE);
+    }
+
+    public static void schedule(ServerLevel level, BlockPos pos, Block block) {
+        level.scheduleTick(pos, block, setDueTime(level, pos));
+    }
+
+    /**
+     * @return the sampled delay until the due time
+     */
+    private static int setDueTime(ServerLevel level, BlockPos pos) {
+        int delay = sampleDelay(level.getRandom(), level.getGameRules());
+        FruitRegrowth regrowth = get(level);
+        regrowth.dueTimes.put(pos.asLong(), level.getGameTime() + delay);
+        regrowth.setDirty();
+        return delay;
+    }
+
+    /**
+     * Called on every scheduled tick of picked leaves.
+     *
+     * @return whether the fruit regrows now, if not the regrowth tick is set again
+     */
+    public static boolean tick(ServerLevel level, BlockPos pos, Block block) {
+        FruitRegrowth regrowth = get(level);
+        long key = pos.asLong();
+        if (!regrowth.dueTimes.containsKey(key)) return true;
+
+        long remaining = regrowth.dueTimes.get(key) - level.getGameTime();
+        if (remaining > 0) {
+            level.scheduleTick(pos, block, (int) Math.min(remaining, Integer.MAX_VALUE));
+            return false;
+        }
+        regrowth.dueTimes.remove(key);
+        regrowth.setDirty();
+        return true;
+    }
+
+    public static void remove(ServerLevel level, BlockPos pos) {
+        FruitRegrowth regrowth = get(level);
+        if (regrowth.dueTimes.containsKey(pos.asLong())) {
+            regrowth.dueTimes.remove(pos.asLong());
+            regrowth.setDirty();
+        }
+    }
+
+    private static FruitRegrowth load(CompoundTag tag) {
+        FruitRegrowth regrowth = new FruitRegrowth();
+        long[] positions = tag.getLongArray("Positions");
+        long[] dueTimes = tag.getLongArray("DueTimes");
+        for (int i = 0; i < positions.length && i < dueTimes.length; i++) {
+            regrowth.dueTimes.put(positions[i], dueTimes[i]);
+        }
+        return regrowth;
+    }
+
+    @Override
+    public CompoundTag save(CompoundTag tag) {
+        long[] positions = new long[dueTimes.size()];
+        long[] times = new long[dueTimes.size()];
+        int i = 0;
+        for (Long2LongMap.Entry entry : dueTimes.long2LongEntrySet()) {
+            positions[i] = entry.getLongKey();
+            times[i++] = entry.getLongValue();
+        }
+        tag.putLongArray("Positions", positions);
+        tag.putLongArray("DueTimes", times);
+        return tag;
+    }
+}
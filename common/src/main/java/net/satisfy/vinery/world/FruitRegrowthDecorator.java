@@ -0,0 +1,34 @@
+package net.satisfy.vinery.world;
+
+import com.mojang.serialization.Codec;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.WorldGenLevel;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.levelgen.feature.treedecorators.TreeDecorator;
+import net.minecraft.world.level.levelgen.feature.treedecorators.TreeDecoratorType;
+import net.satisfy.vinery.block.FruitLeavesBlock;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Sets the first regrowth tick of the fruit leaves of a tree that were generated without fruit, see {@link FruitRegrowth}.
+ */
+public class FruitRegrowthDecorator extends TreeDecorator {
+    public static final FruitRegrowthDecorator INSTANCE = new FruitRegrowthDecorator();
+    public static final Codec<FruitRegrowthDecorator> CODEC = Codec.unit(() -> INSTANCE);
+
+    @Override
+    protected @NotNull TreeDecoratorType<?> type() {
+        return VineryFeatures.FRUIT_REGROWTH.get();
+    }
+
+    @Override
+    public void place(Context context) {
+        if (!(context.level() instanceof WorldGenLevel level)) return;
+        for (BlockPos pos : context.leaves()) {
+            BlockState state = level.getBlockState(pos);
+            if (FruitLeavesBlock.isBarren(state)) {
+                level.scheduleTick(pos, state.getBlock(), FruitRegrowth.sampleDelay(context.random(), level.getLevelData().getGameRules()));
+            }
+        }
+    }
+}
@@ -1,20 +1,29 @@
 package net.satisfy.vinery.world;
 
 import com.mojang.serialization.Codec;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
-import net.minecraft.world.level.ChunkPos;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.WorldGenLevel;
 import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.MultifaceBlock;
 import net.minecraft.world.level.block.VineBlock;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.levelgen.feature.Feature;
 import net.minecraft.world.level.levelgen.feature.FeaturePlaceContext;
 import net.minecraft.world.level.levelgen.feature.configurations.BlockStateConfiguration;
 import net.satisfy.vinery.block.grape.GrapeVineBlock;
+import net.satisfy.vinery.util.jfr.JungleGrapePlaceEvent;
+import net.satisfy.vinery.util.profiling.VineryProfiler;
 
 public class JungleGrapeFeature extends Feature<BlockStateConfiguration> {
+    private static final Direction[] HORIZONTAL = Direction.Plane.HORIZONTAL.stream().toArray(Direction[]::new);
 
-
+    private static final int TRIES = 12;
+    private static final int XZ = 7;
+    private static final int HEIGHT = 10;
+    private static final int LENGTH = 12;
 
     public JungleGrapeFeature(Codec<BlockStateConfiguration> codec) {
         super(codec);
@@ -22,67 +31,113 @@ public class JungleGrapeFeature extends Feature<BlockStateConfiguration> {
 
     @Override
     public boolean place(FeaturePlaceContext<BlockStateConfiguration> context) {
+        if (!VineryProfiler.isRecording()) {
+            placeVines(context);
+            return true;
+        }
+        long start = System.nanoTime();
+        JungleGrapePlaceEvent event = new JungleGrapePlaceEvent();
+        event.begin();
+        int placed = placeVines(context);
+        event.finish(context.origin(), Integer.toString(placed));
+        // Features are placed on worker threads, they only count towards the totals
+        VineryProfiler.record(VineryProfiler.Subsystem.WORLDGEN, start);
+        return true;
+    }
 
-        int tries = 12;
+    /**
+     * @return the number of placed vines
+     */
+    private int placeVines(FeaturePlaceContext<BlockStateConfiguration> context) {
+        WorldGenLevel level = context.level();
+        RandomSource random = context.random();
+        BlockPos origin = context.origin();
+        BlockState vine = context.config().state;
+
+        BlockState[] vineByFace = new BlockState[HORIZONTAL.length];
+        for (int d = 0; d < HORIZONTAL.length; d++) {
+            vineByFace[d] = vine.setValue(GrapeVineBlock.getPropertyForFace(HORIZONTAL[d]), true);
+        }
 
-        int xz = 7;
-        int height = 10;
+        // Every position is looked up at most once per call, placed vines are written through
+        StateCache states = new StateCache(level);
+        for (int i = 0; i < TRIES; i++) {
+            int x = origin.getX() + random.nextInt((XZ * 2) + 1) - XZ;
+            int y = origin.getY() + random.nextInt(HEIGHT) - 1;
+            int z = origin.getZ() + random.nextInt((XZ * 2) + 1) - XZ;
 
-        int length = 12;
+            if (!states.get(BlockPos.asLong(x, y, z)).isAir()) {
+                continue;
+            }
 
+            int maxLength = LENGTH - random.nextInt(random.nextInt(LENGTH) + 1);
+            int targetY = y - maxLength;
 
+            for (; y >= targetY; y--) {
+                long pos = BlockPos.asLong(x, y, z);
+                if (!states.get(pos).isAir()) break;
 
-        BlockPos.MutableBlockPos mutable = new BlockPos.MutableBlockPos();
-        for(int i = 0; i < tries; i++) {
-            mutable.set(context.origin()).move(
-                    context.random().nextInt((xz * 2) + 1) - xz,
-                    context.random().nextInt(height) - 1,
-                    context.random().nextInt((xz * 2) + 1) - xz
-            );
+                BlockState above = states.get(BlockPos.asLong(x, y + 1, z));
+                for (int d = 0; d < HORIZONTAL.length; d++) {
+                    Direction direction = HORIZONTAL[d];
+                    int neighbourX = x + direction.getStepX();
+                    int neighbourZ = z + direction.getStepZ();
 
+                    // Prevent floating vines at chunk borders
+                    if (((neighbourX ^ x) >> 4) != 0 || ((neighbourZ ^ z) >> 4) != 0) continue;
 
-            if(!context.level().isEmptyBlock(mutable)) {
-                continue;
-            }
+                    long neighbourPos = BlockPos.asLong(neighbourX, y, neighbourZ);
+                    BlockState neighbour = states.get(neighbourPos);
 
-            BlockPos.MutableBlockPos vineMutablePos = new BlockPos.MutableBlockPos().set(mutable);
-            ChunkPos currentChunkPos = new ChunkPos(vineMutablePos);
-            BlockState currentBlockstate;
-            BlockState aboveBlockstate;
-
-            int maxLength = length - context.random().nextInt(context.random().nextInt(length) + 1);
-            int targetY = vineMutablePos.getY() - maxLength;
-
-            for (; vineMutablePos.getY() >= targetY; vineMutablePos.move(Direction.DOWN)) {
-                if (context.level().isEmptyBlock(vineMutablePos)) {
-                    for (Direction direction : Direction.Plane.HORIZONTAL) {
-                        mutable.set(vineMutablePos).move(direction);
-                        ChunkPos newChunkPos = new ChunkPos(mutable);
-
-                        // Prevent floating vines at chunk borders
-                        if(newChunkPos.x != currentChunkPos.x || newChunkPos.z != currentChunkPos.z) continue;
-
-                        currentBlockstate = context.config().state.setValue(GrapeVineBlock.getPropertyForFace(direction), true);
-                        aboveBlockstate = context.level().getBlockState(vineMutablePos.above());
-
-                        if (currentBlockstate.canSurvive(context.level(), vineMutablePos) && context.level().getBlockState(vineMutablePos.relative(direction)).getBlock() != Blocks.MOSS_CARPET) {
-                            //places topmost vine that can face upward
-                            context.level().setBlock(vineMutablePos, currentBlockstate.setValue(VineBlock.UP, aboveBlockstate.canOcclude()).setValue(GrapeVineBlock.AGE, context.random().nextInt(3)), 2);
-                            break;
-                        }
-                        else if (aboveBlockstate.is(context.config().state.getBlock())) {
-                            //places rest of the vine as long as vine is above
-                            context.level().setBlock(vineMutablePos, aboveBlockstate.setValue(VineBlock.UP, false).setValue(GrapeVineBlock.AGE, context.random().nextInt(3)), 2);
-                            break;
-                        }
+                    if (neighbour.getBlock() != Blocks.MOSS_CARPET && canAttach(states, vine, above, neighbour, neighbourPos, direction)) {
+                        //places topmost vine that can face upward
+                        states.set(pos, vineByFace[d].setValue(VineBlock.UP, above.canOcclude()).setValue(GrapeVineBlock.AGE, random.nextInt(3)));
+                        break;
+                    }
+                    else if (above.is(vine.getBlock())) {
+                        //places rest of the vine as long as vine is above
+                        states.set(pos, above.setValue(VineBlock.UP, false).setValue(GrapeVineBlock.AGE, random.nextInt(3)));
+                        break;
                     }
-                }
-                else {
-                    break;
                 }
             }
         }
 
-        return true;
+        return states.placed;
+    }
+
+    /**
+     * Same rule as {@link VineBlock#canSurvive} for a vine with a single face: it needs a full face to attach to,
+     * or a vine with the same face above.
+     */
+    private static boolean canAttach(StateCache states, BlockState vine, BlockState above, BlockState neighbour, long neighbourPos, Direction direction) {
+        if (MultifaceBlock.canAttachTo(states.level, direction, states.mutable.set(neighbourPos), neighbour)) return true;
+        return above.is(vine.getBlock()) && above.getValue(GrapeVineBlock.getPropertyForFace(direction));
+    }
+
+    private static class StateCache {
+        private final WorldGenLevel level;
+        private final BlockPos.MutableBlockPos mutable = new BlockPos.MutableBlockPos();
+        private final Long2ObjectOpenHashMap<BlockState> states = new Long2ObjectOpenHashMap<>();
+        private int placed;
+
+        private StateCache(WorldGenLevel level) {
+            this.level = level;
+        }
+
+        private BlockState get(long pos) {
+            BlockState state = states.get(pos);
+            if (state == null) {
+                state = level.getBlockState(mutable.set(pos));
+                states.put(pos, state);
+            }
+            return state;
+        }
+
+        private void set(long pos, BlockState state) {
+            level.setBlock(mutable.set(pos), state, 2);
+            states.put(pos, state);
+            placed++;
+        }
     }
 }
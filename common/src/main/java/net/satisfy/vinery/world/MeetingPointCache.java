@@ -0,0 +1,102 @@
+package net.satisfy.vinery.world;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Holder;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.entity.ai.village.poi.PoiManager;
+import net.minecraft.world.entity.ai.village.poi.PoiRecord;
+import net.minecraft.world.entity.ai.village.poi.PoiType;
+import net.minecraft.world.entity.ai.village.poi.PoiTypes;
+import net.minecraft.world.level.ChunkPos;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Known meeting points (village bells) per chunk of a level, used by the wandering winemaker spawner.
+ * A chunk is scanned through the {@link PoiManager} the first time it is queried, after that it is kept up to date
+ * by the POI add and remove hooks of {@link net.satisfy.vinery.mixin.PoiManagerMixin}.
+ */
+public class MeetingPointCache {
+    private static final Map<PoiManager, MeetingPointCache> CACHES = new WeakHashMap<>();
+    private static final int MAX_CACHED_CHUNKS = 16384;
+
+    private final PoiManager poiManager;
+    private final Long2ObjectOpenHashMap<LongList> meetingPointsByChunk = new Long2ObjectOpenHashMap<>();
+
+    private MeetingPointCache(PoiManager poiManager) {
+        this.poiManager = poiManager;
+    }
+
+    public static MeetingPointCache get(PoiManager poiManager) {
+        return CACHES.computeIfAbsent(poiManager, MeetingPointCache::new);
+    }
+
+    public static void onAdd(PoiManager poiManager, BlockPos pos, Holder<PoiType> type) {
+        MeetingPointCache cache = CACHES.get(poiManager);
+        if (cache == null || !type.is(PoiTypes.MEETING)) return;
+        LongList meetingPoints = cache.meetingPointsByChunk.get(ChunkPos.asLong(pos));
+        if (meetingPoints != null && !meetingPoints.contains(pos.asLong())) meetingPoints.add(pos.asLong());
+    }
+
+    public static void onRemove(PoiManager poiManager, BlockPos pos) {
+        MeetingPointCache cache = CACHES.get(poiManager);
+        if (cache == null) return;
+        LongList meetingPoints = cache.meetingPointsByChunk.get(ChunkPos.asLong(pos));
+        if (meetingPoints != null) meetingPoints.rem(pos.asLong());
+    }
+
+    /**
+     * Called when the POIs of a chunk section are (re)built from its blocks, which does not go through add and remove.
+     */
+    public static void onSectionRefresh(PoiManager poiManager, SectionPos sectionPos) {
+        MeetingPointCache cache = CACHES.get(poiManager);
+        if (cache != null) cache.meetingPointsByChunk.remove(ChunkPos.asLong(sectionPos.x(), sectionPos.z()));
+    }
+
+    /**
+     * @return the meeting point closest to {@code center} within {@code radius} blocks, or null if there is none
+     */
+    @Nullable
+    public BlockPos findClosest(BlockPos center, int radius) {
+        long radiusSqr = (long) radius * radius;
+        long closest = 0;
+        long closestDistance = Long.MAX_VALUE;
+        int minChunkX = SectionPos.blockToSectionCoord(center.getX() - radius), maxChunkX = SectionPos.blockToSectionCoord(center.getX() + radius);
+        int minChunkZ = SectionPos.blockToSectionCoord(center.getZ() - radius), maxChunkZ = SectionPos.blockToSectionCoord(center.getZ() + radius);
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                LongList meetingPoints = getMeetingPoints(chunkX, chunkZ);
+                for (int i = 0; i < meetingPoints.size(); i++) {
+                    long pos = meetingPoints.getLong(i);
+                    long dx = BlockPos.getX(pos) - center.getX(), dy = BlockPos.getY(pos) - center.getY(), dz = BlockPos.getZ(pos) - center.getZ();
+                    long distance = dx * dx + dy * dy + dz * dz;
+                    if (distance <= radiusSqr && distance < closestDistance) {
+                        closestDistance = distance;
+                        closest = pos;
+                    }
+                }
+            }
+        }
+        return closestDistance == Long.MAX_VALUE ? null : BlockPos.of(closest);
+    }
+
+    private LongList getMeetingPoints(int chunkX, int chunkZ) {
+        long chunk = ChunkPos.asLong(chunkX, chunkZ);
+        LongList meetingPoints = meetingPointsByChunk.get(chunk);
+        if (meetingPoints == null) {
+            if (meetingPointsByChunk.size() >= MAX_CACHED_CHUNKS) meetingPointsByChunk.clear();
+            meetingPoints = new LongArrayList();
+            LongList found = meetingPoints;
+            poiManager.getInChunk(type -> type.is(PoiTypes.MEETING), new ChunkPos(chunkX, chunkZ), PoiManager.Occupancy.ANY)
+                    .map(PoiRecord::getPos)
+                    .forEach(pos -> found.add(pos.asLong()));
+            meetingPointsByChunk.put(chunk, meetingPoints);
+        }
+        return meetingPoints;
+    }
+}
@@ -7,6 +7,7 @@ import net.minecraft.core.registries.Registries;
 import net.minecraft.world.level.levelgen.feature.Feature;
 import net.minecraft.world.level.levelgen.feature.configurations.BlockStateConfiguration;
 import net.minecraft.world.level.levelgen.feature.configurations.FeatureConfiguration;
+import net.minecraft.world.level.levelgen.feature.treedecorators.TreeDecoratorType;
 import net.satisfy.vinery.Vinery;
 import net.satisfy.vinery.util.VineryIdentifier;
 
@@ -16,6 +17,10 @@ public class VineryFeatures {
 
     private static final Registrar<Feature<?>> FEATURES = DeferredRegister.create(Vinery.MOD_ID, Registries.FEATURE).getRegistrar();
     public static final RegistrySupplier<Feature<BlockStateConfiguration>> JUNGLE_GRAPE_FEATURE = register("jungle_grape_feature", () -> new JungleGrapeFeature(BlockStateConfiguration.CODEC));
+
+    private static final Registrar<TreeDecoratorType<?>> TREE_DECORATORS = DeferredRegister.create(Vinery.MOD_ID, Registries.TREE_DECORATOR_TYPE).getRegistrar();
+    public static final RegistrySupplier<TreeDecoratorType<FruitRegrowthDecorator>> FRUIT_REGROWTH = TREE_DECORATORS.register(new VineryIdentifier("fruit_regrowth"), () -> new TreeDecoratorType<>(FruitRegrowthDecorator.CODEC));
+
     public static void init(){
         Vinery.LOGGER.debug("Registering Features!");
     }
@@ -0,0 +1,170 @@
+package net.satisfy.vinery.effect.instant;
+
+import net.minecraft.SharedConstants;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.Bootstrap;
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.material.FluidState;
+import net.minecraft.world.phys.Vec3;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Runs {@link TeleportEffect#findTarget} on synthetic worlds. Every ray starts in the middle of block (0, 64, 0) and
+ * searches between 2 and 12 blocks, like the effect does with the default range.
+ */
+class TeleportEffectTest {
+    private static final Vec3 START = new Vec3(0.5, 64, 0.5);
+    private static final Vec3 EAST = new Vec3(1, 0, 0);
+    private static final double MIN = 2, MAX = 12;
+
+    @BeforeAll
+    static void bootstrap() {
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+    }
+
+    @Test
+    void openPathReachesTheLastBlockEnteredInRange() {
+        // Block 12 is entered at 11.5 blocks, the last boundary crossed before the range ends
+        assertEquals(new BlockPos(12, 64, 0), TeleportEffect.findTarget(TestWorld.air(), START, EAST, MIN, MAX));
+    }
+
+    @Test
+    void wallStopsAtTheNearestFit() {
+        TestWorld world = TestWorld.air();
+        for (int x = 3; x <= 13; x++) world.stone(x, 64, 0).stone(x, 65, 0);
+        assertEquals(new BlockPos(2, 64, 0), TeleportEffect.findTarget(world, START, EAST, MIN, MAX));
+    }
+
+    @Test
+    void picksTheFarthestOfSeveralFits() {
+        TestWorld world = TestWorld.stone().pocket(3, 64, 0).pocket(6, 64, 0).pocket(9, 64, 0);
+        assertEquals(new BlockPos(9, 64, 0), TeleportEffect.findTarget(world, START, EAST, MIN, MAX));
+    }
+
+    @Test
+    void skipsBlocksWithoutHeadroom() {
+        TestWorld world = TestWorld.stone().pocket(4, 64, 0).air(9, 64, 0);
+        assertEquals(new BlockPos(4, 64, 0), TeleportEffect.findTarget(world, START, EAST, MIN, MAX));
+    }
+
+    @Test
+    void ignoresFitsCloserThanTheMinimum() {
+        // Block 1 is left at 1.5 blocks, before the minimum distance
+        TestWorld world = TestWorld.stone().pocket(0, 64, 0).pocket(1, 64, 0);
+        assertNull(TeleportEffect.findTarget(world, START, EAST, MIN, MAX));
+        assertEquals(new BlockPos(2, 64, 0), TeleportEffect.findTarget(world.pocket(2, 64, 0), START, EAST, MIN, MAX));
+    }
+
+    @Test
+    void ignoresFitsBeyondTheMaximum() {
+        TestWorld world = TestWorld.stone().pocket(13, 64, 0);
+        assertNull(TeleportEffect.findTarget(world, START, EAST, MIN, MAX));
+        assertEquals(new BlockPos(12, 64, 0), TeleportEffect.findTarget(world.pocket(12, 64, 0), START, EAST, MIN, MAX));
+    }
+
+    @Test
+    void horizontalDiagonalVisitsTheBlocksOnTheRay() {
+        TestWorld world = TestWorld.stone().pocket(5, 64, 5);
+        Vec3 direction = new Vec3(1, 0, 1).normalize();
+        assertEquals(new BlockPos(5, 64, 5), TeleportEffect.findTarget(world, START, direction, MIN, MAX));
+    }
+
+    @Test
+    void negativeDiagonalVisitsTheBlocksOnTheRay() {
+        TestWorld world = TestWorld.stone().pocket(-5, 64, -5);
+        Vec3 direction = new Vec3(-1, 0, -1).normalize();
+        assertEquals(new BlockPos(-5, 64, -5), TeleportEffect.findTarget(world, START, direction, MIN, MAX));
+    }
+
+    @Test
+    void risingDiagonalVisitsTheBlocksOnTheRay() {
+        // From the middle of the block the ray crosses x and y boundaries together, so it climbs one block per block
+        TestWorld world = TestWorld.stone().pocket(4, 68, 0);
+        Vec3 start = new Vec3(0.5, 64.5, 0.5);
+        Vec3 direction = new Vec3(1, 1, 0).normalize();
+        assertEquals(new BlockPos(4, 68, 0), TeleportEffect.findTarget(world, start, direction, MIN, MAX));
+    }
+
+    @Test
+    void diagonalBoundIsMeasuredAlongTheRay() {
+        // Block (8, 64, 8) is entered 10.6 blocks along the ray, (9, 64, 9) only after 12.02, past the maximum
+        Vec3 direction = new Vec3(1, 0, 1).normalize();
+        assertNull(TeleportEffect.findTarget(TestWorld.stone().pocket(9, 64, 9), START, direction, MIN, MAX));
+        assertEquals(new BlockPos(8, 64, 8), TeleportEffect.findTarget(TestWorld.stone().pocket(8, 64, 8), START, direction, MIN, MAX));
+    }
+
+    /**
+     * A world filled with one block, with single blocks replaced.
+     */
+    private static class TestWorld implements BlockGetter {
+        private final BlockState fill;
+        private final Map<BlockPos, BlockState> blocks = new HashMap<>();
+
+        private TestWorld(BlockState fill) {
+            this.fill = fill;
+        }
+
+        static TestWorld air() {
+            return new TestWorld(Blocks.AIR.defaultBlockState());
+        }
+
+        static TestWorld stone() {
+            return new TestWorld(Blocks.STONE.defaultBlockState());
+        }
+
+        TestWorld air(int x, int y, int z) {
+            blocks.put(new BlockPos(x, y, z), Blocks.AIR.defaultBlockState());
+            return this;
+        }
+
+        TestWorld stone(int x, int y, int z) {
+            blocks.put(new BlockPos(x, y, z), Blocks.STONE.defaultBlockState());
+            return this;
+        }
+
+        /**
+         * Two blocks of air, room for a player standing at the lower one.
+         */
+        TestWorld pocket(int x, int y, int z) {
+            return air(x, y, z).air(x, y + 1, z);
+        }
+
+        @Nullable
+        @Override
+        public BlockEntity getBlockEntity(BlockPos pos) {
+            return null;
+        }
+
+        @Override
+        public BlockState getBlockState(BlockPos pos) {
+            return blocks.getOrDefault(pos, fill);
+        }
+
+        @Override
+        public FluidState getFluidState(BlockPos pos) {
+            return getBlockState(pos).getFluidState();
+        }
+
+        @Override
+        public int getHeight() {
+            return 384;
+        }
+
+        @Override
+        public int getMinBuildHeight() {
+            return -64;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package net.satisfy.vinery.util.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RecipeCacheMetricTest {
+    private final RecipeCacheMetric metric = new RecipeCacheMetric("test_recipes", "test machines");
+
+    @Test
+    void collectsTotalsAndHitRate() {
+        for (int i = 0; i < 3; i++) metric.record(true);
+        metric.record(false);
+        List<Sample> samples = collect();
+
+        assertEquals(3, samples.size());
+        assertSample(samples.get(0), "test_recipes_hits_total", Sample.Type.COUNTER, 3);
+        assertSample(samples.get(1), "test_recipes_misses_total", Sample.Type.COUNTER, 1);
+        assertSample(samples.get(2), "test_recipes_hit_rate", Sample.Type.GAUGE, 0.75);
+    }
+
+    @Test
+    void hitRateOnlyCountsLookupsSinceTheLastCollection() {
+        for (int i = 0; i < 4; i++) metric.record(true);
+        collect();
+        metric.record(true);
+        metric.record(false);
+        List<Sample> samples = collect();
+
+        assertSample(samples.get(0), "test_recipes_hits_total", Sample.Type.COUNTER, 5);
+        assertSample(samples.get(1), "test_recipes_misses_total", Sample.Type.COUNTER, 1);
+        assertSample(samples.get(2), "test_recipes_hit_rate", Sample.Type.GAUGE, 0.5);
+    }
+
+    @Test
+    void hitRateIsZeroWithoutLookups() {
+        metric.record(true);
+        collect();
+        assertSample(collect().get(2), "test_recipes_hit_rate", Sample.Type.GAUGE, 0);
+    }
+
+    private List<Sample> collect() {
+        List<Sample> samples = new ArrayList<>();
+        metric.collect(samples);
+        return samples;
+    }
+
+    private static void assertSample(Sample sample, String name, Sample.Type type, double value) {
+        assertEquals(name, sample.name());
+        assertEquals(type, sample.type());
+        assertEquals(value, sample.value(), 1.0E-9);
+    }
+}
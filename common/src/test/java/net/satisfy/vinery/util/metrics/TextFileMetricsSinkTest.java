@@ -0,0 +1,61 @@
+package net.satisfy.vinery.util.metrics;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class TextFileMetricsSinkTest {
+    @TempDir
+    Path dir;
+
+    @Test
+    void writesThePrometheusTextFormat() throws IOException {
+        Path file = dir.resolve("vinery-metrics.prom");
+        new TextFileMetricsSink(file).write(List.of(
+                new Sample("vinery_bottles_fermented_total", "Bottles", Sample.Type.COUNTER, Map.of(), 42),
+                new Sample("vinery_effect_instances", "Effects", Sample.Type.GAUGE, Map.of("effect", "vinery:climbing"), 3),
+                new Sample("vinery_effect_instances", "Effects", Sample.Type.GAUGE, Map.of("effect", "vinery:luck"), 1),
+                new Sample("vinery_recipes_hit_rate", "Hit rate", Sample.Type.GAUGE, Map.of(), 0.75)));
+
+        assertEquals("""
+                # HELP vinery_bottles_fermented_total Bottles
+                # TYPE vinery_bottles_fermented_total counter
+                vinery_bottles_fermented_total 42
+                # HELP vinery_effect_instances Effects
+                # TYPE vinery_effect_instances gauge
+                vinery_effect_instances{effect="vinery:climbing"} 3
+                vinery_effect_instances{effect="vinery:luck"} 1
+                # HELP vinery_recipes_hit_rate Hit rate
+                # TYPE vinery_recipes_hit_rate gauge
+                vinery_recipes_hit_rate 0.75
+                """, Files.readString(file));
+    }
+
+    @Test
+    void escapesLabelValues() throws IOException {
+        Path file = dir.resolve("vinery-metrics.prom");
+        new TextFileMetricsSink(file).write(List.of(
+                new Sample("vinery_test", "Test", Sample.Type.GAUGE, Map.of("name", "a \"b\" \\ c\nd"), 1)));
+
+        assertEquals("vinery_test{name=\"a \\\"b\\\" \\\\ c\\nd\"} 1", Files.readAllLines(file).get(2));
+    }
+
+    @Test
+    void replacesThePreviousFileWithoutLeavingTheTempFile() throws IOException {
+        Path file = dir.resolve("vinery-metrics.prom");
+        TextFileMetricsSink sink = new TextFileMetricsSink(file);
+        sink.write(List.of(new Sample("vinery_test", "Test", Sample.Type.GAUGE, Map.of(), 1)));
+        sink.write(List.of(new Sample("vinery_test", "Test", Sample.Type.GAUGE, Map.of(), 2)));
+
+        assertEquals("vinery_test 2", Files.readAllLines(file).get(2));
+        assertFalse(Files.exists(dir.resolve("vinery-metrics.prom.tmp")));
+    }
+}
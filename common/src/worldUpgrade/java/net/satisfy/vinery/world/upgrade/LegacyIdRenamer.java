@@ -0,0 +1,79 @@
+package net.satisfy.vinery.world.upgrade;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.StringTag;
+import net.minecraft.nbt.Tag;
+import net.satisfy.vinery.Vinery;
+import net.satisfy.vinery.registry.DataFixerRegistry;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Renames the legacy ids of {@link DataFixerRegistry} in chunk, entity and player data. Only two places are
+ * rewritten, so ids of other kinds (block entity and entity types) are never touched:
+ * <ul>
+ *     <li>{@code Name} of the entries of block state palettes</li>
+ *     <li>{@code id} of item stacks, found anywhere in the data (block entity inventories, dropped items, item
+ *     frames, player and ender chest inventories, nested containers)</li>
+ * </ul>
+ */
+public class LegacyIdRenamer {
+    private final Map<String, String> renames = new HashMap<>();
+    final LongAdder blockStates = new LongAdder();
+    final LongAdder items = new LongAdder();
+
+    public LegacyIdRenamer() {
+        DataFixerRegistry.addRenames((from, to) -> renames.put(Vinery.MOD_ID + ":" + from, Vinery.MOD_ID + ":" + to));
+    }
+
+    /**
+     * @return whether anything was renamed
+     */
+    public boolean rename(CompoundTag tag) {
+        return visitCompound(tag, false);
+    }
+
+    private boolean visitCompound(CompoundTag tag, boolean paletteEntry) {
+        boolean changed = false;
+        if (paletteEntry) {
+            changed = renameString(tag, "Name", blockStates);
+        } else if (tag.contains("Count", Tag.TAG_ANY_NUMERIC)) {
+            changed = renameString(tag, "id", items);
+        }
+        for (String key : tag.getAllKeys()) {
+            Tag child = tag.get(key);
+            if (child instanceof CompoundTag compound) {
+                changed |= visitCompound(compound, false);
+            } else if (child instanceof ListTag list) {
+                changed |= visitList(list, key.equals("palette") || key.equals("Palette"));
+            }
+        }
+        return changed;
+    }
+
+    private boolean visitList(ListTag list, boolean palette) {
+        boolean changed = false;
+        if (list.getElementType() == Tag.TAG_COMPOUND) {
+            for (int i = 0; i < list.size(); i++) {
+                changed |= visitCompound(list.getCompound(i), palette);
+            }
+        } else if (list.getElementType() == Tag.TAG_LIST) {
+            for (int i = 0; i < list.size(); i++) {
+                changed |= visitList(list.getList(i), false);
+            }
+        }
+        return changed;
+    }
+
+    private boolean renameString(CompoundTag tag, String key, LongAdder counter) {
+        if (!tag.contains(key, Tag.TAG_STRING)) return false;
+        String renamed = renames.get(tag.getString(key));
+        if (renamed == null) return false;
+        tag.put(key, StringTag.valueOf(renamed));
+        counter.increment();
+        return true;
+    }
+}
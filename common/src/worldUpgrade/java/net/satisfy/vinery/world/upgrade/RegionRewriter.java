@@ -0,0 +1,202 @@
+package net.satisfy.vinery.world.upgrade;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.NbtIo;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Reads a region file into memory, renames the legacy ids of every chunk and writes the file again if
+ * anything changed. The new file is written compacted next to the old one and then moved over it, after the old one
+ * was copied to the backup. The file is read with plain reads rather than mapped, a mapping stays alive until it is
+ * garbage collected and Windows refuses to replace a file that is still mapped.
+ * <p>
+ * Chunks that are too large for the region file live in {@code c.<x>.<z>.mcc} files next to it, those are rewritten
+ * in place (with their own backup).
+ */
+class RegionRewriter {
+    private static final int SECTOR = 4096;
+    private static final int CHUNKS = 1024;
+    private static final int MAX_SECTORS = 255;
+    private static final byte GZIP = 1;
+    private static final byte ZLIB = 2;
+    private static final byte NONE = 3;
+    private static final int EXTERNAL = 128;
+    private static final byte[] SKIPPED = new byte[0];
+
+    record Result(int chunks, int changedChunks, int skippedChunks, boolean written) {
+        static final Result EMPTY = new Result(0, 0, 0, false);
+    }
+
+    private final LegacyIdRenamer renamer;
+    private final boolean dryRun;
+
+    RegionRewriter(LegacyIdRenamer renamer, boolean dryRun) {
+        this.renamer = renamer;
+        this.dryRun = dryRun;
+    }
+
+    Result rewrite(Path region, Path backup) throws IOException {
+        int[] regionPos = parseRegionPos(region);
+        byte[] types = new byte[CHUNKS];
+        byte[][] payloads = new byte[CHUNKS][];
+        int[] timestamps = new int[CHUNKS];
+        int chunks = 0, changed = 0, skipped = 0;
+
+        try (FileChannel channel = FileChannel.open(region, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < 2L * SECTOR) return Result.EMPTY;
+            ByteBuffer bytes = ByteBuffer.allocate((int) size);
+            while (bytes.hasRemaining()) {
+                if (channel.read(bytes) < 0) break;
+            }
+            size = bytes.position();
+            for (int i = 0; i < CHUNKS; i++) {
+                int location = bytes.getInt(i * 4);
+                timestamps[i] = bytes.getInt(SECTOR + i * 4);
+                if (location == 0) continue;
+
+                long offset = (long) (location >>> 8) * SECTOR;
+                int length = offset + 5 <= size ? bytes.getInt((int) offset) : -1;
+                if (length <= 0 || offset + 4 + length > size) {
+                    // Same as the game, a chunk pointing outside of the file is treated as missing
+                    skipped++;
+                    continue;
+                }
+                chunks++;
+                types[i] = bytes.get((int) offset + 4);
+                byte[] payload = new byte[length - 1];
+                bytes.get((int) offset + 5, payload);
+                payloads[i] = payload;
+
+                if ((types[i] & EXTERNAL) != 0) {
+                    Path external = region.resolveSibling("c." + (regionPos[0] * 32 + (i & 31)) + "." + (regionPos[1] * 32 + (i >> 5)) + ".mcc");
+                    if (rewriteExternal(external, backup.resolveSibling(external.getFileName()), (byte) (types[i] & ~EXTERNAL))) changed++;
+                    continue;
+                }
+                byte[] renamed = rename(types[i], payload);
+                if (renamed == SKIPPED) {
+                    skipped++;
+                } else if (renamed != null) {
+                    payloads[i] = renamed;
+                    changed++;
+                }
+            }
+        }
+
+        if (changed == 0 || dryRun) return new Result(chunks, changed, skipped, false);
+        Files.createDirectories(backup.getParent());
+        Files.copy(region, backup, StandardCopyOption.REPLACE_EXISTING);
+        write(region, types, payloads, timestamps, regionPos);
+        return new Result(chunks, changed, skipped, true);
+    }
+
+    /**
+     * @return the new compressed payload, null if nothing was renamed or {@link #SKIPPED} for unknown compressions
+     */
+    private byte[] rename(byte type, byte[] payload) throws IOException {
+        InputStream in = decompress(type, new ByteArrayInputStream(payload));
+        if (in == null) return SKIPPED;
+        CompoundTag tag;
+        try (DataInputStream data = new DataInputStream(new BufferedInputStream(in))) {
+            tag = NbtIo.read(data);
+        }
+        if (!renamer.rename(tag)) return null;
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(payload.length + 256);
+        try (DataOutputStream data = new DataOutputStream(compress(type, bytes))) {
+            NbtIo.write(tag, data);
+        }
+        return bytes.toByteArray();
+    }
+
+    private boolean rewriteExternal(Path external, Path backup, byte type) throws IOException {
+        if (!Files.isRegularFile(external)) return false;
+        byte[] renamed = rename(type, Files.readAllBytes(external));
+        if (renamed == null || renamed == SKIPPED || dryRun) return renamed != null && renamed != SKIPPED;
+        Files.createDirectories(backup.getParent());
+        Files.copy(external, backup, StandardCopyOption.REPLACE_EXISTING);
+        writeAtomically(external, renamed);
+        return true;
+    }
+
+    private static void write(Path region, byte[] types, byte[][] payloads, int[] timestamps, int[] regionPos) throws IOException {
+        Path temp = region.resolveSibling(region.getFileName() + ".tmp");
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer header = ByteBuffer.allocate(2 * SECTOR);
+            int sector = 2;
+            for (int i = 0; i < CHUNKS; i++) {
+                header.putInt(SECTOR + i * 4, timestamps[i]);
+                byte[] payload = payloads[i];
+                if (payload == null) continue;
+
+                byte type = types[i];
+                int sectors = (5 + payload.length + SECTOR - 1) / SECTOR;
+                if (sectors > MAX_SECTORS && (type & EXTERNAL) == 0) {
+                    // Grew past the size limit of a region file entry, move it out like the game does
+                    Path external = region.resolveSibling("c." + (regionPos[0] * 32 + (i & 31)) + "." + (regionPos[1] * 32 + (i >> 5)) + ".mcc");
+                    writeAtomically(external, payload);
+                    type |= (byte) EXTERNAL;
+                    payload = new byte[0];
+                    sectors = 1;
+                }
+                ByteBuffer chunk = ByteBuffer.allocate(sectors * SECTOR);
+                chunk.putInt(payload.length + 1).put(type).put(payload).rewind();
+                out.write(chunk, (long) sector * SECTOR);
+                header.putInt(i * 4, sector << 8 | sectors);
+                sector += sectors;
+            }
+            out.write(header, 0);
+        }
+        Files.move(temp, region, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static void writeAtomically(Path file, byte[] bytes) throws IOException {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.write(temp, bytes);
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static InputStream decompress(byte type, InputStream in) throws IOException {
+        return switch (type) {
+            case GZIP -> new GZIPInputStream(in);
+            case ZLIB -> new InflaterInputStream(in);
+            case NONE -> in;
+            default -> null;
+        };
+    }
+
+    private static OutputStream compress(byte type, OutputStream out) throws IOException {
+        return switch (type) {
+            case GZIP -> new GZIPOutputStream(out);
+            case ZLIB -> new DeflaterOutputStream(out);
+            default -> out;
+        };
+    }
+
+    private static int[] parseRegionPos(Path region) throws IOException {
+        String[] parts = region.getFileName().toString().split("\\.");
+        try {
+            return new int[]{Integer.parseInt(parts[1]), Integer.parseInt(parts[2])};
+        } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+            throw new IOException("Not a region file name: " + region.getFileName(), e);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package net.satisfy.vinery.world.upgrade;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.NbtIo;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Offline migration of the legacy ids of {@link net.satisfy.vinery.registry.DataFixerRegistry}. In game the ids are
+ * only renamed when a chunk is loaded, this rewrites a whole world at once: the region files of every dimension
+ * (chunks and entities), the player data and {@code level.dat}. Region files are processed in parallel.
+ * <p>
+ * Run it with the {@code upgradeWorld} task of the common project while the world is not open:
+ * {@code gradlew :common:upgradeWorld -Pworld=<path> [-Pthreads=<n>] [-PdryRun]}. Every changed file is copied to
+ * {@code vinery-upgrade-backup-<time>} in the world folder before it is replaced.
+ */
+public class WorldUpgrader {
+    private static final String BACKUP_PREFIX = "vinery-upgrade-backup-";
+
+    private final Path world;
+    private final Path backup;
+    private final boolean dryRun;
+    private final LegacyIdRenamer renamer = new LegacyIdRenamer();
+    private final RegionRewriter rewriter;
+
+    private final LongAdder chunks = new LongAdder();
+    private final LongAdder changedChunks = new LongAdder();
+    private final LongAdder skippedChunks = new LongAdder();
+    private final AtomicInteger regions = new AtomicInteger();
+    private final AtomicInteger changedRegions = new AtomicInteger();
+    private final AtomicInteger changedPlayers = new AtomicInteger();
+    private final AtomicInteger failures = new AtomicInteger();
+
+    private WorldUpgrader(Path world, boolean dryRun) {
+        this.world = world;
+        this.dryRun = dryRun;
+        this.backup = world.resolve(BACKUP_PREFIX + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")));
+        this.rewriter = new RegionRewriter(renamer, dryRun);
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path world = null;
+        int threads = Runtime.getRuntime().availableProcessors();
+        boolean dryRun = false;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--threads" -> threads = Integer.parseInt(args[++i]);
+                case "--dry-run" -> dryRun = true;
+                default -> world = Path.of(args[i]);
+            }
+        }
+        if (world == null || !Files.isRegularFile(world.resolve("level.dat"))) {
+            System.err.println("Usage: WorldUpgrader <world folder> [--threads <n>] [--dry-run]");
+            System.exit(1);
+            return;
+        }
+
+        try (FileChannel lockFile = FileChannel.open(world.resolve("session.lock"), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+             FileLock lock = lockFile.tryLock()) {
+            if (lock == null) {
+                System.err.println("The world is open in a running game or server, close it first");
+                System.exit(1);
+                return;
+            }
+            new WorldUpgrader(world, dryRun).run(Math.max(1, threads));
+        }
+    }
+
+    private void run(int threads) throws Exception {
+        long start = System.nanoTime();
+        List<Path> regionFiles = new ArrayList<>();
+        List<Path> playerFiles = new ArrayList<>();
+        try (Stream<Path> files = Files.walk(world)) {
+            files.filter(Files::isRegularFile).filter(file -> !world.relativize(file).getName(0).toString().startsWith(BACKUP_PREFIX)).forEach(file -> {
+                String name = file.getFileName().toString();
+                String parent = file.getParent().getFileName().toString();
+                if (name.endsWith(".mca") && (parent.equals("region") || parent.equals("entities"))) regionFiles.add(file);
+                else if (name.endsWith(".dat") && parent.equals("playerdata")) playerFiles.add(file);
+            });
+        }
+        playerFiles.add(world.resolve("level.dat"));
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> tasks = new ArrayList<>();
+            for (Path region : regionFiles) {
+                tasks.add(executor.submit(() -> upgradeRegion(region)));
+            }
+            for (Path player : playerFiles) {
+                tasks.add(executor.submit(() -> upgradePlayer(player)));
+            }
+            for (Future<?> task : tasks) {
+                task.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        System.out.printf("%s %d region files with %d threads in %.1f s%n", dryRun ? "Checked" : "Upgraded", regions.get(), threads, (System.nanoTime() - start) / 1.0E9D);
+        System.out.printf("  region files changed: %d%n", changedRegions.get());
+        System.out.printf("  chunks: %d, changed: %d, skipped: %d%n", chunks.sum(), changedChunks.sum(), skippedChunks.sum());
+        System.out.printf("  block states renamed: %d%n", renamer.blockStates.sum());
+        System.out.printf("  items renamed: %d%n", renamer.items.sum());
+        System.out.printf("  player files changed: %d of %d%n", changedPlayers.get(), playerFiles.size());
+        System.out.printf("  failed files: %d%n", failures.get());
+        if (!dryRun && (changedRegions.get() > 0 || changedPlayers.get() > 0)) {
+            System.out.println("Backups are in " + backup);
+        }
+    }
+
+    private void upgradeRegion(Path region) {
+        try {
+            RegionRewriter.Result result = rewriter.rewrite(region, backup.resolve(world.relativize(region)));
+            regions.incrementAndGet();
+            chunks.add(result.chunks());
+            changedChunks.add(result.changedChunks());
+            skippedChunks.add(result.skippedChunks());
+            if (result.changedChunks() > 0) changedRegions.incrementAndGet();
+        } catch (IOException | RuntimeException e) {
+            failures.incrementAndGet();
+            System.err.println("Couldn't upgrade " + region + ": " + e);
+        }
+    }
+
+    private void upgradePlayer(Path file) {
+        try {
+            CompoundTag tag;
+            try (InputStream in = Files.newInputStream(file)) {
+                tag = NbtIo.readCompressed(in);
+            }
+            if (!renamer.rename(tag)) return;
+            changedPlayers.incrementAndGet();
+            if (dryRun) return;
+
+            Path target = backup.resolve(world.relativize(file));
+            Files.createDirectories(target.getParent());
+            Files.copy(file, target, StandardCopyOption.REPLACE_EXISTING);
+            Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                NbtIo.writeCompressed(tag, out);
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            failures.incrementAndGet();
+            System.err.println("Couldn't upgrade " + file + ": " + e);
+        }
+    }
+}
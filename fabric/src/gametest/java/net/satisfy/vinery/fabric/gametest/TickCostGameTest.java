@@ -0,0 +1,267 @@
+package net.satisfy.vinery.fabric.gametest;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.fabricmc.fabric.api.gametest.v1.FabricGameTest;
+import net.minecraft.core.BlockPos;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.item.crafting.Ingredient;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.satisfy.vinery.block.entity.FermentationBarrelBlockEntity;
+import net.satisfy.vinery.block.stem.StemBlock;
+import net.satisfy.vinery.recipe.FermentationBarrelRecipe;
+import net.satisfy.vinery.registry.GrapeTypeRegistry;
+import net.satisfy.vinery.registry.ObjectRegistry;
+import net.satisfy.vinery.registry.RecipeTypesRegistry;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Tick-cost regression suite, run headless with {@code gradlew runGametest}.
+ * <p>
+ * Every case measures the average server tick of an empty test area, fills a large area with one kind of vinery
+ * block, lets it warm up and measures again. The difference is compared against the budget of the case in
+ * {@code vinery_gametest/tick_budgets.json}, in milliseconds per tick. The budgets are calibrated for the CI machine,
+ * on slower machines the tolerance can be raised with {@code -Dvinery.gametest.tolerance=<fraction>}.
+ * <p>
+ * Each case has its own batch, so the cases never run at the same time and don't skew each other's timings.
+ */
+public class TickCostGameTest implements FabricGameTest {
+    private static final int BASELINE_TICKS = 100;
+    private static final int WARMUP_TICKS = 40;
+    private static final int MEASURE_TICKS = 100;
+    private static final int TIMEOUT = BASELINE_TICKS + WARMUP_TICKS + MEASURE_TICKS + 20;
+
+    private static final JsonObject BUDGETS = loadBudgets();
+
+    private static long tickStart;
+    private static long tickNanos;
+    private static int tickCount;
+
+    static {
+        ServerTickEvents.START_SERVER_TICK.register(server -> tickStart = System.nanoTime());
+        ServerTickEvents.END_SERVER_TICK.register(server -> {
+            tickNanos += System.nanoTime() - tickStart;
+            tickCount++;
+        });
+    }
+
+    @GameTest(template = EMPTY_STRUCTURE, batch = "vinery_barrels_idle", timeoutTicks = TIMEOUT)
+    public void barrelsIdle(GameTestHelper helper) {
+        measure(helper, "barrels_idle", 1000, false, area -> area.grid((x, z) ->
+                area.set(x, 1, z, ObjectRegistry.FERMENTATION_BARREL.get().defaultBlockState())));
+    }
+
+    /**
+     * Barrels with a bottle and an ingredient that matches no recipe, so the recipe lookup runs every tick.
+     */
+    @GameTest(template = EMPTY_STRUCTURE, batch = "vinery_barrels_filling", timeoutTicks = TIMEOUT)
+    public void barrelsFilling(GameTestHelper helper) {
+        measure(helper, "barrels_filling", 1000, false, area -> area.grid((x, z) -> {
+            FermentationBarrelBlockEntity barrel = area.barrel(x, z);
+            barrel.setItem(0, new ItemStack(ObjectRegistry.WINE_BOTTLE.get(), 64));
+            barrel.setItem(1, new ItemStack(Items.DIRT, 64));
+        }));
+    }
+
+    @GameTest(template = EMPTY_STRUCTURE, batch = "vinery_barrels_fermenting", timeoutTicks = TIMEOUT)
+    public void barrelsFermenting(GameTestHelper helper) {
+        List<FermentationBarrelRecipe> recipes = helper.getLevel().getRecipeManager().getAllRecipesFor(RecipeTypesRegistry.FERMENTATION_BARREL_RECIPE_TYPE.get());
+        if (recipes.isEmpty()) {
+            helper.fail("No fermentation barrel recipes loaded");
+            return;
+        }
+        List<Ingredient> ingredients = recipes.get(0).getIngredients();
+        measure(helper, "barrels_fermenting", 1000, false, area -> area.grid((x, z) -> {
+            FermentationBarrelBlockEntity barrel = area.barrel(x, z);
+            barrel.setItem(0, new ItemStack(ObjectRegistry.WINE_BOTTLE.get(), 64));
+            for (int i = 0; i < ingredients.size() && i < 4; i++) {
+                ItemStack[] items = ingredients.get(i).getItems();
+                if (items.length > 0) barrel.setItem(1 + i, items[0].copyWithCount(64));
+            }
+        }));
+    }
+
+    @GameTest(template = EMPTY_STRUCTURE, batch = "vinery_apple_presses", timeoutTicks = TIMEOUT)
+    public void applePresses(GameTestHelper helper) {
+        measure(helper, "apple_presses", 500, false, area -> area.grid((x, z) ->
+                area.set(x, 1, z, ObjectRegistry.APPLE_PRESS.get().defaultBlockState())));
+    }
+
+    /**
+     * 5000 lattices and 2500 stems of two blocks each, all with a young grape so their random ticks take the growth path.
+     */
+    @GameTest(template = EMPTY_STRUCTURE, batch = "vinery_vines", timeoutTicks = TIMEOUT)
+    public void vines(GameTestHelper helper) {
+        BlockState lattice = ObjectRegistry.OAK_LATTICE.get().defaultBlockState()
+                .setValue(StemBlock.GRAPE, GrapeTypeRegistry.RED).setValue(StemBlock.AGE, 1);
+        BlockState stem = ObjectRegistry.GRAPEVINE_STEM.get().defaultBlockState()
+                .setValue(StemBlock.GRAPE, GrapeTypeRegistry.RED).setValue(StemBlock.AGE, 1);
+        measure(helper, "vines", 7500, true, area -> area.grid((x, z) -> {
+            if ((x + z) % 3 == 0) {
+                area.set(x, 1, z, stem);
+                area.set(x, 2, z, stem);
+            } else {
+                area.set(x, 1, z, lattice);
+            }
+        }));
+    }
+
+    /**
+     * 5000 grass slabs in a checkerboard with dirt, so every random tick has somewhere to spread to.
+     */
+    @GameTest(template = EMPTY_STRUCTURE, batch = "vinery_grass_slabs", timeoutTicks = TIMEOUT)
+    public void grassSlabs(GameTestHelper helper) {
+        BlockState grass = ObjectRegistry.GRASS_SLAB.get().defaultBlockState();
+        BlockState dirt = Blocks.DIRT.defaultBlockState();
+        measure(helper, "grass_slabs", 10000, true, area -> area.grid((x, z) ->
+                area.set(x, 1, z, (x + z) % 2 == 0 ? grass : dirt)));
+    }
+
+    /**
+     * 5000 vanilla grass blocks in a checkerboard with dirt and no dirt slab anywhere, like the plains of a normal
+     * world. Measures what the grass slab hook in {@code SpreadingSnowyDirtBlock.randomTick} costs vanilla grass.
+     */
+    @GameTest(template = EMPTY_STRUCTURE, batch = "vinery_plains_grass", timeoutTicks = TIMEOUT)
+    public void plainsGrass(GameTestHelper helper) {
+        BlockState grass = Blocks.GRASS_BLOCK.defaultBlockState();
+        BlockState dirt = Blocks.DIRT.defaultBlockState();
+        measure(helper, "plains_grass", 10000, true, area -> area.grid((x, z) ->
+                area.set(x, 1, z, (x + z) % 2 == 0 ? grass : dirt)));
+    }
+
+    /**
+     * @param count       the number of blocks the case places, they are laid out in a square
+     * @param randomTicks whether the case depends on random ticks, those only run in chunks close to a player, so a
+     *                    mock player is placed in the middle of the area. It is there for the baseline as well, so
+     *                    its own ticking and chunk loading aren't counted as the cost of the case
+     */
+    private static void measure(GameTestHelper helper, String name, int count, boolean randomTicks, Consumer<StressArea> build) {
+        double budget = budget(name);
+        StressArea area = new StressArea(helper.getLevel(), helper.absolutePos(BlockPos.ZERO).below(), count);
+        if (randomTicks) area.addPlayer(helper);
+        resetTimer();
+        helper.runAfterDelay(BASELINE_TICKS, () -> {
+            double baseline = averageTickMillis();
+            build.accept(area);
+
+            helper.runAfterDelay(WARMUP_TICKS, TickCostGameTest::resetTimer);
+            helper.runAfterDelay(WARMUP_TICKS + MEASURE_TICKS, () -> {
+                double cost = averageTickMillis() - baseline;
+                area.clear();
+                double limit = budget * (1 + tolerance());
+                if (cost > limit) {
+                    helper.fail(String.format("%s costs %.3f ms per tick, budget is %.3f ms (%.3f ms with tolerance)", name, cost, budget, limit));
+                }
+                helper.succeed();
+            });
+        });
+    }
+
+    private static void resetTimer() {
+        tickNanos = 0;
+        tickCount = 0;
+    }
+
+    private static double averageTickMillis() {
+        return tickCount == 0 ? 0 : tickNanos / (double) tickCount / 1_000_000D;
+    }
+
+    private static double budget(String name) {
+        JsonObject budgets = BUDGETS.getAsJsonObject("budgets");
+        if (!budgets.has(name)) throw new IllegalStateException("No tick budget for " + name);
+        return budgets.get(name).getAsDouble();
+    }
+
+    private static double tolerance() {
+        String property = System.getProperty("vinery.gametest.tolerance");
+        return property != null ? Double.parseDouble(property) : BUDGETS.get("tolerance").getAsDouble();
+    }
+
+    private static JsonObject loadBudgets() {
+        try (InputStream stream = TickCostGameTest.class.getResourceAsStream("/vinery_gametest/tick_budgets.json")) {
+            if (stream == null) throw new IllegalStateException("Missing vinery_gametest/tick_budgets.json");
+            try (Reader reader = new InputStreamReader(stream, StandardCharsets.UTF_8)) {
+                return JsonParser.parseReader(reader).getAsJsonObject();
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Couldn't read the tick budgets", e);
+        }
+    }
+
+    /**
+     * A square area next to the test, filled on a stone floor. Blocks are placed without neighbour updates and the
+     * area is cleared again at the end of the case, it reaches far beyond the bounds of the empty test structure.
+     */
+    private static class StressArea {
+        private final ServerLevel level;
+        private final BlockPos floor;
+        private final int count;
+        private final int size;
+        private ServerPlayer player;
+
+        private StressArea(ServerLevel level, BlockPos floor, int count) {
+            this.level = level;
+            this.floor = floor;
+            this.count = count;
+            this.size = (int) Math.ceil(Math.sqrt(count));
+        }
+
+        private void grid(GridConsumer consumer) {
+            for (int i = 0; i < count; i++) {
+                int x = i % size, z = i / size;
+                set(x, 0, z, Blocks.STONE.defaultBlockState());
+                consumer.accept(x, z);
+            }
+        }
+
+        private void set(int x, int y, int z, BlockState state) {
+            level.setBlock(floor.offset(x, y, z), state, Block.UPDATE_CLIENTS);
+        }
+
+        private FermentationBarrelBlockEntity barrel(int x, int z) {
+            set(x, 1, z, ObjectRegistry.FERMENTATION_BARREL.get().defaultBlockState());
+            if (level.getBlockEntity(floor.offset(x, 1, z)) instanceof FermentationBarrelBlockEntity barrel) {
+                return barrel;
+            }
+            throw new IllegalStateException("No fermentation barrel at " + floor.offset(x, 1, z));
+        }
+
+        private void addPlayer(GameTestHelper helper) {
+            player = helper.makeMockServerPlayerInLevel();
+            player.moveTo(floor.getX() + size / 2D, floor.getY() + 4, floor.getZ() + size / 2D);
+            level.getChunkSource().move(player);
+        }
+
+        private void clear() {
+            if (player != null) level.getServer().getPlayerList().remove(player);
+            BlockState air = Blocks.AIR.defaultBlockState();
+            for (int x = 0; x < size; x++) {
+                for (int z = 0; z < size; z++) {
+                    for (int y = 2; y >= 0; y--) {
+                        set(x, y, z, air);
+                    }
+                }
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface GridConsumer {
+        void accept(int x, int z);
+    }
+}
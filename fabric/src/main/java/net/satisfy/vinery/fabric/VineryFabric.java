@@ -1,10 +1,12 @@
 package net.satisfy.vinery.fabric;
 
 import net.fabricmc.api.ModInitializer;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerChunkEvents;
 import net.satisfy.vinery.Vinery;
 import net.satisfy.vinery.fabric.registry.VineryFabricVillagers;
 import net.satisfy.vinery.fabric.world.VineryBiomeModification;
 import net.satisfy.vinery.registry.CompostableRegistry;
+import net.satisfy.vinery.world.FruitRegrowth;
 
 public class VineryFabric implements ModInitializer {
     @Override
@@ -13,6 +15,7 @@ public class VineryFabric implements ModInitializer {
         CompostableRegistry.registerCompostable();
         VineryFabricVillagers.init();
         VineryBiomeModification.init();
+        ServerChunkEvents.CHUNK_LOAD.register(FruitRegrowth::onChunkLoad);
         Vinery.commonSetup();
     }
 }
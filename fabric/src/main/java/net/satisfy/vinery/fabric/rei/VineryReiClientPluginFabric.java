@@ -3,6 +3,7 @@ package net.satisfy.vinery.fabric.rei;
 import me.shedaniel.rei.api.client.plugins.REIClientPlugin;
 import me.shedaniel.rei.api.client.registry.category.CategoryRegistry;
 import me.shedaniel.rei.api.client.registry.display.DisplayRegistry;
+import me.shedaniel.rei.api.client.registry.transfer.TransferHandlerRegistry;
 import net.satisfy.vinery.compat.rei.VineryReiClientPlugin;
 
 
@@ -16,4 +17,9 @@ public class VineryReiClientPluginFabric implements REIClientPlugin {
     public void registerDisplays(DisplayRegistry registry) {
         VineryReiClientPlugin.registerDisplays(registry);
     }
+
+    @Override
+    public void registerTransferHandlers(TransferHandlerRegistry registry) {
+        VineryReiClientPlugin.registerTransferHandlers(registry);
+    }
 }
@@ -0,0 +1,172 @@
+package net.satisfy.vinery.fabric.benchmark;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Holder;
+import net.minecraft.core.SectionPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.WorldGenLevel;
+import net.minecraft.world.level.biome.Biome;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.material.FluidState;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * A lightweight {@link WorldGenLevel} stand-in for {@link WorldgenBenchmark}. The terrain is a flat grass plain with
+ * a grid of jungle log pillars for vines to climb on, placed blocks are kept in a map.
+ * Like a real world generation region, writes are only allowed within one chunk around the chunk being decorated;
+ * writes outside of it are rejected and counted.
+ */
+public class BenchmarkLevel implements InvocationHandler {
+    private static final int MIN_Y = -64;
+    private static final int HEIGHT = 384;
+    private static final int SURFACE_Y = 63;
+    private static final int PILLAR_HEIGHT = 10;
+
+    private final ServerLevel serverLevel;
+    private final Holder<Biome> biome;
+    private final RandomSource random;
+    private final Long2ObjectOpenHashMap<BlockState> placed = new Long2ObjectOpenHashMap<>();
+    private final WorldGenLevel level;
+
+    private int centerChunkX, centerChunkZ;
+    private int blocksPlaced;
+    private int rejectedWrites;
+
+    public BenchmarkLevel(ServerLevel serverLevel, Holder<Biome> biome, long seed) {
+        this.serverLevel = serverLevel;
+        this.biome = biome;
+        this.random = RandomSource.create(seed);
+        this.level = (WorldGenLevel) Proxy.newProxyInstance(WorldGenLevel.class.getClassLoader(), new Class<?>[]{WorldGenLevel.class}, this);
+    }
+
+    public WorldGenLevel level() {
+        return level;
+    }
+
+    public void setCenter(int chunkX, int chunkZ) {
+        this.centerChunkX = chunkX;
+        this.centerChunkZ = chunkZ;
+    }
+
+    public int blocksPlaced() {
+        return blocksPlaced;
+    }
+
+    public int rejectedWrites() {
+        return rejectedWrites;
+    }
+
+    private static boolean isPillar(int x, int z) {
+        return Math.floorMod(x, 5) == 0 && Math.floorMod(z, 5) == 0;
+    }
+
+    private static int surfaceHeight(int x, int z) {
+        return isPillar(x, z) ? SURFACE_Y + PILLAR_HEIGHT + 1 : SURFACE_Y + 1;
+    }
+
+    private BlockState getBlockState(BlockPos pos) {
+        BlockState state = placed.get(pos.asLong());
+        if (state != null) return state;
+        int y = pos.getY();
+        if (y > SURFACE_Y) {
+            return y <= SURFACE_Y + PILLAR_HEIGHT && isPillar(pos.getX(), pos.getZ()) ? Blocks.JUNGLE_LOG.defaultBlockState() : Blocks.AIR.defaultBlockState();
+        }
+        if (y == SURFACE_Y) return Blocks.GRASS_BLOCK.defaultBlockState();
+        if (y >= SURFACE_Y - 3) return Blocks.DIRT.defaultBlockState();
+        return y >= MIN_Y ? Blocks.STONE.defaultBlockState() : Blocks.VOID_AIR.defaultBlockState();
+    }
+
+    private boolean canWrite(BlockPos pos) {
+        return Math.abs(SectionPos.blockToSectionCoord(pos.getX()) - centerChunkX) <= 1
+                && Math.abs(SectionPos.blockToSectionCoord(pos.getZ()) - centerChunkZ) <= 1
+                && pos.getY() >= MIN_Y && pos.getY() < MIN_Y + HEIGHT;
+    }
+
+    private boolean setBlockState(BlockPos pos, BlockState state) {
+        if (!canWrite(pos)) {
+            rejectedWrites++;
+            return false;
+        }
+        placed.put(pos.asLong(), state);
+        blocksPlaced++;
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        switch (method.getName()) {
+            case "getBlockState":
+                return getBlockState((BlockPos) args[0]);
+            case "getFluidState":
+                return getBlockState((BlockPos) args[0]).getFluidState();
+            case "isStateAtPosition":
+                return ((Predicate<BlockState>) args[1]).test(getBlockState((BlockPos) args[0]));
+            case "isFluidAtPosition":
+                return ((Predicate<FluidState>) args[1]).test(getBlockState((BlockPos) args[0]).getFluidState());
+            case "setBlock":
+                if (args.length == 4) return setBlockState((BlockPos) args[0], (BlockState) args[1]);
+                break;
+            case "removeBlock":
+            case "destroyBlock":
+                return setBlockState((BlockPos) args[0], Blocks.AIR.defaultBlockState());
+            case "ensureCanWrite":
+                return canWrite((BlockPos) args[0]);
+            case "getBlockEntity":
+                return method.getReturnType() == Optional.class ? Optional.empty() : null;
+            case "getHeight":
+                if (args == null) return HEIGHT;
+                return surfaceHeight((int) args[1], (int) args[2]);
+            case "getHeightmapPos":
+                BlockPos pos = (BlockPos) args[1];
+                return new BlockPos(pos.getX(), surfaceHeight(pos.getX(), pos.getZ()), pos.getZ());
+            case "getMinBuildHeight":
+                return MIN_Y;
+            case "getSeaLevel":
+                return SURFACE_Y;
+            case "getBiome":
+                return biome;
+            case "getSeed":
+                return serverLevel.getSeed();
+            case "getRandom":
+                return random;
+            case "isClientSide":
+                return false;
+            case "hasChunk":
+                return true;
+            case "registryAccess":
+                return serverLevel.registryAccess();
+            case "enabledFeatures":
+                return serverLevel.enabledFeatures();
+            case "dimensionType":
+                return serverLevel.dimensionType();
+            case "blockUpdated":
+            case "scheduleTick":
+            case "neighborShapeChanged":
+            case "gameEvent":
+            case "playSound":
+            case "levelEvent":
+                return null;
+            case "addFreshEntity":
+                return true;
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "equals":
+                return proxy == args[0];
+            case "toString":
+                return "BenchmarkLevel";
+        }
+        if (method.isDefault()) {
+            return InvocationHandler.invokeDefault(proxy, method, args);
+        }
+        throw new UnsupportedOperationException("BenchmarkLevel does not support " + method.getName());
+    }
+}
@@ -0,0 +1,132 @@
+package net.satisfy.vinery.fabric.benchmark;
+
+import net.fabricmc.api.ModInitializer;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Holder;
+import net.minecraft.core.Registry;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.biome.Biome;
+import net.minecraft.world.level.biome.Biomes;
+import net.minecraft.world.level.chunk.ChunkGenerator;
+import net.minecraft.world.level.levelgen.LegacyRandomSource;
+import net.minecraft.world.level.levelgen.WorldgenRandom;
+import net.minecraft.world.level.levelgen.placement.BiomeFilter;
+import net.minecraft.world.level.levelgen.placement.PlacedFeature;
+import net.minecraft.world.level.levelgen.placement.PlacementContext;
+import net.minecraft.world.level.levelgen.placement.PlacementModifier;
+import net.satisfy.vinery.Vinery;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Headless cost harness for the vinery placed features, run with {@code gradlew runWorldgenBenchmark}. On server start
+ * it places every placed feature of the vinery namespace into a number of chunks of a {@link BenchmarkLevel} (256, or
+ * the value of {@code -Dvinery.worldgenBenchmark=<chunks>}), writes a report to {@code vinery-worldgen-benchmark.txt}
+ * and stops the server.
+ * <p>
+ * The stand-in level dispatches on method names, so the harness lives in its own source set and only runs in a
+ * development environment.
+ */
+public class WorldgenBenchmark implements ModInitializer {
+    public static final String PROPERTY = "vinery.worldgenBenchmark";
+    private static final long SEED = 1234L;
+
+    @Override
+    public void onInitialize() {
+        ServerLifecycleEvents.SERVER_STARTED.register(server -> {
+            int chunks = Integer.getInteger(PROPERTY, 256);
+            try {
+                List<Result> results = run(server.overworld(), chunks);
+                String report = report(results, chunks);
+                Vinery.LOGGER.info("\n" + report);
+                Files.writeString(Path.of("vinery-worldgen-benchmark.txt"), report);
+            } catch (IOException e) {
+                Vinery.LOGGER.error("Couldn't write worldgen benchmark report", e);
+            } finally {
+                server.halt(false);
+            }
+        });
+    }
+
+    public static List<Result> run(ServerLevel serverLevel, int chunks) {
+        MinecraftServer server = serverLevel.getServer();
+        Registry<PlacedFeature> placedFeatures = server.registryAccess().registryOrThrow(Registries.PLACED_FEATURE);
+        Holder<Biome> biome = server.registryAccess().registryOrThrow(Registries.BIOME).getHolderOrThrow(Biomes.JUNGLE);
+        ChunkGenerator generator = serverLevel.getChunkSource().getGenerator();
+
+        List<Result> results = new ArrayList<>();
+        List<Map.Entry<ResourceKey<PlacedFeature>, PlacedFeature>> entries = placedFeatures.entrySet().stream()
+                .filter(entry -> entry.getKey().location().getNamespace().equals(Vinery.MOD_ID))
+                .sorted(Comparator.comparing(entry -> entry.getKey().location()))
+                .toList();
+        for (Map.Entry<ResourceKey<PlacedFeature>, PlacedFeature> entry : entries) {
+            results.add(run(entry.getKey(), entry.getValue(), new BenchmarkLevel(serverLevel, biome, SEED), generator, chunks));
+        }
+        return results;
+    }
+
+    private static Result run(ResourceKey<PlacedFeature> key, PlacedFeature feature, BenchmarkLevel level, ChunkGenerator generator, int chunks) {
+        int side = (int) Math.ceil(Math.sqrt(chunks));
+        WorldgenRandom random = new WorldgenRandom(new LegacyRandomSource(SEED));
+        PlacementContext context = new PlacementContext(level.level(), generator, Optional.of(feature));
+        long nanos = 0;
+        String failure = null;
+        for (int i = 0; i < chunks && failure == null; i++) {
+            ChunkPos chunk = new ChunkPos(i % side, i / side);
+            level.setCenter(chunk.x, chunk.z);
+            BlockPos origin = new BlockPos(chunk.getMinBlockX(), level.level().getMinBuildHeight(), chunk.getMinBlockZ());
+            long decorationSeed = random.setDecorationSeed(SEED, origin.getX(), origin.getZ());
+            random.setFeatureSeed(decorationSeed, 0, 0);
+
+            long start = System.nanoTime();
+            try {
+                place(feature, context, random, origin);
+            } catch (RuntimeException e) {
+                failure = e.toString();
+            }
+            nanos += System.nanoTime() - start;
+        }
+        return new Result(key, nanos, chunks, level.blocksPlaced(), level.rejectedWrites(), failure);
+    }
+
+    // Same as PlacedFeature#placeWithContext, but without the biome filter, since the stand-in level has no biome generation settings
+    private static void place(PlacedFeature feature, PlacementContext context, WorldgenRandom random, BlockPos origin) {
+        Stream<BlockPos> positions = Stream.of(origin);
+        for (PlacementModifier modifier : feature.placement()) {
+            if (modifier instanceof BiomeFilter) continue;
+            positions = positions.flatMap(pos -> modifier.getPositions(context, random, pos));
+        }
+        positions.forEach(pos -> feature.feature().value().place(context.getLevel(), context.generator(), random, pos));
+    }
+
+    public static String report(List<Result> results, int chunks) {
+        StringBuilder builder = new StringBuilder();
+        builder.append(String.format("Vinery worldgen benchmark, %d chunks per feature%n", chunks));
+        builder.append(String.format("%-45s %14s %12s %16s%n", "placed feature", "ns/chunk", "blocks", "border rejects"));
+        for (Result result : results) {
+            builder.append(String.format("%-45s %14d %12d %16d", result.key().location(), result.nanosPerChunk(), result.blocksPlaced(), result.rejectedWrites()));
+            if (result.failure() != null) builder.append("  FAILED: ").append(result.failure());
+            builder.append(System.lineSeparator());
+        }
+        return builder.toString();
+    }
+
+    public record Result(ResourceKey<PlacedFeature> key, long nanos, int chunks, int blocksPlaced, int rejectedWrites, String failure) {
+        public long nanosPerChunk() {
+            return chunks > 0 ? nanos / chunks : 0;
+        }
+    }
+}
@@ -1,10 +1,13 @@
 package net.satisfy.vinery.forge;
 
 import de.cristelknight.doapi.common.util.VillagerUtil;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.ExperienceOrb;
 import net.minecraft.world.entity.npc.VillagerTrades;
 import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.level.chunk.LevelChunk;
 import net.minecraftforge.event.entity.player.PlayerXpEvent;
+import net.minecraftforge.event.level.ChunkEvent;
 import net.minecraftforge.event.village.VillagerTradesEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.common.Mod;
@@ -12,6 +15,7 @@ import net.satisfy.vinery.Vinery;
 import net.satisfy.vinery.forge.registry.VineryForgeVillagers;
 import net.satisfy.vinery.registry.MobEffectRegistry;
 import net.satisfy.vinery.registry.ObjectRegistry;
+import net.satisfy.vinery.world.FruitRegrowth;
 
 import java.util.HashMap;
 import java.util.List;
@@ -67,5 +71,12 @@ public class ModEvents {
                 e.value = (int) (i + (i * (1 + amplifier) * 0.5));
             }
         }
+
+        @SubscribeEvent
+        public static void chunkLoad(ChunkEvent.Load event) {
+            if (event.getLevel() instanceof ServerLevel level && event.getChunk() instanceof LevelChunk chunk) {
+                FruitRegrowth.onChunkLoad(level, chunk);
+            }
+        }
     }
 }
@@ -3,6 +3,7 @@ package net.satisfy.vinery.forge.rei;
 import me.shedaniel.rei.api.client.plugins.REIClientPlugin;
 import me.shedaniel.rei.api.client.registry.category.CategoryRegistry;
 import me.shedaniel.rei.api.client.registry.display.DisplayRegistry;
+import me.shedaniel.rei.api.client.registry.transfer.TransferHandlerRegistry;
 import me.shedaniel.rei.forge.REIPluginClient;
 import net.satisfy.vinery.compat.rei.VineryReiClientPlugin;
 
@@ -17,4 +18,9 @@ public class VineryReiClientPluginForge implements REIClientPlugin {
     public void registerDisplays(DisplayRegistry registry) {
         VineryReiClientPlugin.registerDisplays(registry);
     }
+
+    @Override
+    public void registerTransferHandlers(TransferHandlerRegistry registry) {
+        VineryReiClientPlugin.registerTransferHandlers(registry);
+    }
 }